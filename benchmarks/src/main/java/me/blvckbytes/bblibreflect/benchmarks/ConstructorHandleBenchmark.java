@@ -0,0 +1,81 @@
+package me.blvckbytes.bblibreflect.benchmarks;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.ConstructorHandle;
+import me.blvckbytes.bblibreflect.handle.ShallowCloner;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Compares instantiating through plain reflection with the varargs and fixed
+  arity paths of constructor handles as well as with shallow copies.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorHandleBenchmark {
+
+  private FakeNms.PacketPlayOutSetSlot template;
+
+  private Constructor<?> emptyConstructor;
+  private ConstructorHandle emptyHandle, allArgsHandle;
+
+  @Setup
+  public void setup() throws Exception {
+    template = new FakeNms.PacketPlayOutSetSlot();
+
+    emptyConstructor = FakeNms.PacketPlayOutSetSlot.class.getDeclaredConstructor();
+
+    emptyHandle = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class).locateConstructor().required();
+    allArgsHandle = ClassHandle.of(FakeNms.ClientboundSetTitlesAnimationPacket.class).locateConstructor()
+      .withParameters(int.class, int.class, int.class)
+      .required();
+  }
+
+  @Benchmark
+  public Object reflectionNewInstance() throws Exception {
+    return emptyConstructor.newInstance();
+  }
+
+  @Benchmark
+  public Object handleNewInstanceVarargs() throws Exception {
+    return emptyHandle.newInstance();
+  }
+
+  @Benchmark
+  public Object handleNewInstance0() throws Exception {
+    return emptyHandle.newInstance0();
+  }
+
+  @Benchmark
+  public Object handleNewInstanceAllArgs() throws Exception {
+    return allArgsHandle.newInstance(10, 70, 20);
+  }
+
+  @Benchmark
+  public Object shallowCopy() {
+    return ShallowCloner.copyOf(template);
+  }
+}
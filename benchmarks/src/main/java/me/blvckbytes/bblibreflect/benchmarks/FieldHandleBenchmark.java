@@ -0,0 +1,123 @@
+package me.blvckbytes.bblibreflect.benchmarks;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.FieldHandle;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Compares reading and writing fields through plain reflection with the
+  compiled accessors of field handles, boxed as well as primitive.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldHandleBenchmark {
+
+  private FakeNms.PacketPlayOutSetSlot packet;
+  private FakeNms.ItemStack item;
+
+  private Field slotField, itemField;
+  private FieldHandle slotHandle, itemHandle;
+
+  private ToIntFunction<Object> slotGetter;
+  private ObjIntConsumer<Object> slotSetter;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() throws Exception {
+    packet = new FakeNms.PacketPlayOutSetSlot();
+    item = new FakeNms.ItemStack(new FakeNms.Item(Material.STONE), 1);
+
+    slotField = FakeNms.PacketPlayOutSetSlot.class.getDeclaredField("slot");
+    slotField.setAccessible(true);
+
+    itemField = FakeNms.PacketPlayOutSetSlot.class.getDeclaredField("itemStack");
+    itemField.setAccessible(true);
+
+    ClassHandle handle = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+    slotHandle = handle.locateField().withType(int.class).withSkip(2).required();
+    itemHandle = handle.locateField().withType(FakeNms.ItemStack.class).required();
+
+    slotGetter = slotHandle.bindGetter(ToIntFunction.class);
+    slotSetter = slotHandle.bindSetter(ObjIntConsumer.class);
+  }
+
+  @Benchmark
+  public Object reflectionGet() throws Exception {
+    return itemField.get(packet);
+  }
+
+  @Benchmark
+  public Object handleGet() throws Exception {
+    return itemHandle.get(packet);
+  }
+
+  @Benchmark
+  public void reflectionSet() throws Exception {
+    itemField.set(packet, item);
+  }
+
+  @Benchmark
+  public void handleSet() throws Exception {
+    itemHandle.set(packet, item);
+  }
+
+  @Benchmark
+  public int reflectionGetInt() throws Exception {
+    return slotField.getInt(packet);
+  }
+
+  @Benchmark
+  public Object handleGetBoxed() throws Exception {
+    return slotHandle.get(packet);
+  }
+
+  @Benchmark
+  public int handleGetInt() throws Exception {
+    return slotHandle.getInt(packet);
+  }
+
+  @Benchmark
+  public void handleSetInt(Blackhole bh) throws Exception {
+    slotHandle.setInt(packet, 5);
+    bh.consume(packet);
+  }
+
+  @Benchmark
+  public int boundGetInt() {
+    return slotGetter.applyAsInt(packet);
+  }
+
+  @Benchmark
+  public void boundSetInt(Blackhole bh) {
+    slotSetter.accept(packet, 5);
+    bh.consume(packet);
+  }
+}
@@ -0,0 +1,100 @@
+package me.blvckbytes.bblibreflect.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.MethodHandle;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Compares invoking methods through plain reflection with the varargs and
+  fixed arity paths of method handles as well as with bound interfaces.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodHandleBenchmark {
+
+  private FakeNms.CraftPlayer player;
+  private JsonElement json;
+
+  private Method getHandleMethod, fromJsonMethod;
+  private MethodHandle getHandleHandle, fromJsonHandle;
+
+  private Function<Object, Object> getHandleBound, fromJsonBound;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() throws Exception {
+    player = new FakeNms.CraftPlayer(null, null);
+    json = new JsonPrimitive("text");
+
+    getHandleMethod = FakeNms.CraftPlayer.class.getDeclaredMethod("getHandle");
+    fromJsonMethod = FakeNms.ChatSerializer.class.getDeclaredMethod("fromJson", JsonElement.class);
+
+    getHandleHandle = ClassHandle.of(FakeNms.CraftPlayer.class).locateMethod().withName("getHandle").required();
+    fromJsonHandle = ClassHandle.of(FakeNms.ChatSerializer.class).locateMethod().withName("fromJson").withStatic(true).required();
+
+    getHandleBound = getHandleHandle.bind(Function.class);
+    fromJsonBound = fromJsonHandle.bind(Function.class);
+  }
+
+  @Benchmark
+  public Object reflectionInvoke() throws Exception {
+    return getHandleMethod.invoke(player);
+  }
+
+  @Benchmark
+  public Object handleInvokeVarargs() throws Exception {
+    return getHandleHandle.invoke(player);
+  }
+
+  @Benchmark
+  public Object handleInvoke0() throws Exception {
+    return getHandleHandle.invoke0(player);
+  }
+
+  @Benchmark
+  public Object boundInvoke() {
+    return getHandleBound.apply(player);
+  }
+
+  @Benchmark
+  public Object reflectionInvokeStatic() throws Exception {
+    return fromJsonMethod.invoke(null, json);
+  }
+
+  @Benchmark
+  public Object handleInvokeStatic() throws Exception {
+    return fromJsonHandle.invoke1(null, json);
+  }
+
+  @Benchmark
+  public Object boundInvokeStatic() {
+    return fromJsonBound.apply(json);
+  }
+}
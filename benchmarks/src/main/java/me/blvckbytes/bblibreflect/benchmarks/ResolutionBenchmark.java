@@ -0,0 +1,81 @@
+package me.blvckbytes.bblibreflect.benchmarks;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.FieldHandle;
+import me.blvckbytes.bblibreflect.handle.MemberIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Measures resolving handles: looking up class handles, dispatching field predicates
+  on a warm member index, bypassing the builder's memoization, as well as resolving
+  everything from scratch after all caches have been cleared.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+  private ClassHandle handle;
+
+  @Setup
+  public void setup() {
+    handle = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+  }
+
+  @Benchmark
+  public ClassHandle classHandleOf() {
+    return ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+  }
+
+  @Benchmark
+  public FieldHandle locateFieldMemoized() throws Exception {
+    return handle.locateField().withType(FakeNms.ItemStack.class).required();
+  }
+
+  @Benchmark
+  public FieldHandle locateFieldInherited() throws Exception {
+    return ClassHandle.of(FakeNms.PacketPlayOutEntity.PacketPlayOutRelEntityMove.class).locateField()
+      .withType(boolean.class)
+      .withAllowSuperclass(true)
+      .required();
+  }
+
+  @Benchmark
+  public FieldHandle locateFieldPredicate() throws Exception {
+    return new FieldHandle(FakeNms.PacketPlayOutSetSlot.class, (f, counter) -> f.getType() == FakeNms.ItemStack.class);
+  }
+
+  @Benchmark
+  public MemberIndex buildMemberIndex() {
+    ClassHandle.clearCaches();
+    return MemberIndex.of(FakeNms.PacketPlayOutSetSlot.class);
+  }
+
+  @Benchmark
+  public FieldHandle locateFieldCold() throws Exception {
+    ClassHandle.clearCaches();
+    return ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class).locateField().withType(FakeNms.ItemStack.class).required();
+  }
+}
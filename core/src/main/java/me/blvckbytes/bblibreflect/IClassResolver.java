@@ -0,0 +1,45 @@
+package me.blvckbytes.bblibreflect;
+
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Resolves the known reflection required classes and the version they belong to.
+  The reflection helper uses the implementation named by the system property
+  bblibreflect.classResolver and falls back to resolving against the running server,
+  which allows to substitute stand-ins for the server's classes outside of it.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface IClassResolver {
+
+  /**
+   * Get the version of the classes which are resolved, like v1_19_R1
+   * @return Version string
+   */
+  String getVersion();
+
+  /**
+   * Resolve a known reflection required class by it's identifier
+   * @param rc Class identifier
+   * @param version Version string, as returned by {@link #getVersion()}
+   * @param refactored Whether the version is past the big package refactoring
+   * @return Resolved class
+   * @throws ClassNotFoundException Thrown if the class is not available
+   */
+  ClassHandle resolve(RClass rc, String version, boolean refactored) throws ClassNotFoundException;
+
+}
@@ -1,12 +1,13 @@
-package me.blvckbytes.bblibreflect.handle;
+package me.blvckbytes.bblibreflect;
 
 import org.jetbrains.annotations.Nullable;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
-  Created On: 08/14/2022
+  Created On: 08/21/2022
 
-  The base of all predicate builder implementations.
+  Passes a packet into a network manager as if it was received from the
+  client, bound to the version dependent receiving method once.
 
   This program is free software: you can redistribute it and/or modify
   it under the terms of the GNU Affero General Public License as published
@@ -21,17 +22,15 @@ import org.jetbrains.annotations.Nullable;
   You should have received a copy of the GNU Affero General Public License
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
-public abstract class APredicateBuilder<T> {
+@FunctionalInterface
+public interface INetworkManagerReceiver {
 
   /**
-   * Get the predicate's result and return null if it couldn't be located
+   * Pass a packet into a network manager as if it was received
+   * @param networkManager Network manager to pass into
+   * @param context Channel handler context, optional
+   * @param packet Packet to receive
    */
-  public abstract @Nullable T optional();
-
-  /**
-   * Get the predicate's result and require that it's not null
-   * @throws Exception Not found exception if the result could not be located
-   */
-  public abstract T required() throws Exception;
+  void receivePacket(Object networkManager, @Nullable Object context, Object packet);
 
 }
@@ -0,0 +1,38 @@
+package me.blvckbytes.bblibreflect;
+
+import org.jetbrains.annotations.Nullable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Sends a packet through a network manager, bound to the version dependent
+  sending method once. Public sending methods are called directly, unless being
+  profiled, while all others are passed through an invoker bridge, which still
+  avoids reflection but adds an exact method handle invocation to every call.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@FunctionalInterface
+public interface INetworkManagerSender {
+
+  /**
+   * Send a packet through a network manager
+   * @param networkManager Network manager to send through
+   * @param packet Packet to send
+   * @param listener Future listener to be notified when the packet has been sent, optional
+   */
+  void sendPacket(Object networkManager, Object packet, @Nullable Object listener);
+
+}
@@ -31,7 +31,16 @@ public interface IPacketInterceptor {
    * @param modifier Packet modifier to register
    * @param priority Priority of this modifier
    */
-  void register(IPacketModifier modifier, ModificationPriority priority);
+  default void register(IPacketModifier modifier, ModificationPriority priority) {
+    register(modifier, priority.getValue());
+  }
+
+  /**
+   * Register a new modifier for all players
+   * @param modifier Packet modifier to register
+   * @param priority Priority of this modifier, higher priorities are called first
+   */
+  void register(IPacketModifier modifier, int priority);
 
   /**
    * Unregister an existing modifier for all players
@@ -52,7 +61,17 @@ public interface IPacketInterceptor {
    * @param modifier Packet modifier to register
    * @param priority Priority of this modifier
    */
-  void registerSpecific(UUID target, IPacketModifier modifier, ModificationPriority priority);
+  default void registerSpecific(UUID target, IPacketModifier modifier, ModificationPriority priority) {
+    registerSpecific(target, modifier, priority.getValue());
+  }
+
+  /**
+   * Register a new modifier for a specific player
+   * @param target Player to target with this modifier
+   * @param modifier Packet modifier to register
+   * @param priority Priority of this modifier, higher priorities are called first
+   */
+  void registerSpecific(UUID target, IPacketModifier modifier, int priority);
 
   /**
    * Unegister an existing modifier for a specific player
@@ -81,4 +100,9 @@ public interface IPacketInterceptor {
    */
   IPacketCommunicatorRegistry getPacketCommunicatorRegistry();
 
+  /**
+   * Get a reference to the classifier of all messages passing through the intercepted channels
+   */
+  PacketClassifier getPacketClassifier();
+
 }
@@ -0,0 +1,46 @@
+package me.blvckbytes.bblibreflect;
+
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 04/23/2022
+
+  Represents a class that can modify in- and outgoing packets
+  and will be registered within a chain of modifiers
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public interface IPacketModifier {
+
+  Object modifyIncoming(IPacketReceiver sender, Object incoming);
+
+  Object modifyOutgoing(IPacketReceiver receiver, Object outgoing);
+
+  /**
+   * Get the packet classes this modifier is interested in, which is queried once at
+   * registration. Packets which are no instances of any of these classes when entering
+   * the chain of modifiers will not be passed to the modifier, while messages which are
+   * no packets at all are never passed to any modifier.
+   * @param direction Direction of the packets
+   * @return Classes of interest, empty for none, null for all packets of this direction
+   */
+  default @Nullable Collection<ClassHandle> getInterests(PacketDirection direction) {
+    return null;
+  }
+
+}
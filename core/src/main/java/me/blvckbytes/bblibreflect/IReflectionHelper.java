@@ -6,6 +6,7 @@ import org.bukkit.Material;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -67,4 +68,11 @@ public interface IReflectionHelper {
    */
   Optional<Integer> getBurnTime(Material mat);
 
+  /**
+   * Get the future which completes as soon as all known classes have been
+   * loaded and their members have been indexed in the background
+   * @return Readiness of the warm-up phase
+   */
+  CompletableFuture<Void> getWarmUp();
+
 }
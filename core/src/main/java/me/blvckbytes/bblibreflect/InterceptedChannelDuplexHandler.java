@@ -0,0 +1,132 @@
+package me.blvckbytes.bblibreflect;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/17/2022
+
+  Relays a channels I/O through the modifiers which are interested in the
+  passing packets and drops packets if they have been terminated by a modifier.
+  Global and player specific modifiers are merged into a single chain, which is
+  only rebuilt after registrations changed or the receiver's UUID became known.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@RequiredArgsConstructor
+public class InterceptedChannelDuplexHandler extends ChannelDuplexHandler {
+
+  private final ILogger logger;
+  private final IPacketReceiver receiver;
+  private final PacketClassifier classifier;
+  private final ModifierRegistry modifiers;
+
+  // Merged chain of this connection and the state it has been built from, which
+  // are only accessed from within the channel's event loop
+  private @Nullable ModifierChain chain, chainGlobal, chainSpecific;
+  private @Nullable UUID chainUuid;
+  private int chainStamp;
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    PacketClassifier.Classification packet = classifier.of(msg.getClass());
+
+    // Not a packet, not interested
+    if (!packet.isPacket()) {
+      super.channelRead(ctx, msg);
+      return;
+    }
+
+    // Ensure exceptions don't ruin the pipe
+    try {
+      // Run through all interested modifiers
+      for (IPacketModifier modifier : getChain().getDispatch().getIncoming(packet)) {
+        msg = modifier.modifyIncoming(receiver, msg);
+
+        // Packet has been terminated
+        if (msg == null)
+          return;
+      }
+    } catch (Exception e) {
+      logger.logError(e);
+    }
+
+    // Relay modified packet
+    super.channelRead(ctx, msg);
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    PacketClassifier.Classification packet = classifier.of(msg.getClass());
+
+    // Not a packet, not interested
+    if (!packet.isPacket()) {
+      super.write(ctx, msg, promise);
+      return;
+    }
+
+    // Ensure exceptions don't ruin the pipe
+    try {
+      // Run through all interested modifiers
+      for (IPacketModifier modifier : getChain().getDispatch().getOutgoing(packet)) {
+        msg = modifier.modifyOutgoing(receiver, msg);
+
+        // Packet has been terminated
+        if (msg == null)
+          return;
+      }
+    } catch (Exception e) {
+      logger.logError(e);
+    }
+
+    // Relay modified packet
+    super.write(ctx, msg, promise);
+  }
+
+  /**
+   * Get the merged chain of all global modifiers and all modifiers specific to
+   * the receiver, if it has a UUID, rebuilding it if it's stale
+   * @return Merged chain of this connection
+   */
+  private ModifierChain getChain() {
+    // Read the stamp before the chains, so that changes in between are caught next time
+    int stamp = modifiers.getStamp();
+    UUID u = receiver.getUuid();
+
+    if (chain != null && stamp == chainStamp && Objects.equals(u, chainUuid))
+      return chain;
+
+    ModifierChain global = modifiers.getGlobal();
+    ModifierChain specific = u == null ? null : modifiers.getSpecific(u);
+
+    // Only merge again if the chains of this connection actually changed
+    if (chain == null || global != chainGlobal || specific != chainSpecific) {
+      chain = global.merge(specific);
+      chainGlobal = global;
+      chainSpecific = specific;
+    }
+
+    chainStamp = stamp;
+    chainUuid = u;
+    return chain;
+  }
+}
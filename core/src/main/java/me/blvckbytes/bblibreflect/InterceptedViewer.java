@@ -5,7 +5,6 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import lombok.Getter;
 import lombok.Setter;
-import me.blvckbytes.bblibreflect.handle.MethodHandle;
 import me.blvckbytes.bblibutil.logger.ILogger;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,7 +35,8 @@ public class InterceptedViewer implements ICustomizableViewer {
   private final Channel channel;
   private final Object networkManager;
   private final ILogger logger;
-  private final MethodHandle M_NETWORK_MANAGER__SEND_PACKET, M_NETWORK_MANAGER__RECEIVE_PACKET ;
+  private final INetworkManagerSender sender;
+  private final INetworkManagerReceiver receiver;
 
   @Setter private @Nullable UUID uuid;
   @Setter private int clientVersion;
@@ -50,11 +50,11 @@ public class InterceptedViewer implements ICustomizableViewer {
     Channel channel,
     Object networkManager,
     ILogger logger,
-    MethodHandle M_NETWORK_MANAGER__SEND_PACKET,
-    MethodHandle M_NETWORK_MANAGER__RECEIVE_PACKET
+    INetworkManagerSender sender,
+    INetworkManagerReceiver receiver
   ) {
-    this.M_NETWORK_MANAGER__SEND_PACKET = M_NETWORK_MANAGER__SEND_PACKET;
-    this.M_NETWORK_MANAGER__RECEIVE_PACKET = M_NETWORK_MANAGER__RECEIVE_PACKET;
+    this.sender = sender;
+    this.receiver = receiver;
     this.channel = channel;
     this.networkManager = networkManager;
     this.logger = logger;
@@ -73,7 +73,7 @@ public class InterceptedViewer implements ICustomizableViewer {
     }
 
     try {
-      M_NETWORK_MANAGER__SEND_PACKET.invoke(
+      sender.sendPacket(
         networkManager, packet,
 
         // Wrap the plain runnable in a generic future listener
@@ -94,7 +94,7 @@ public class InterceptedViewer implements ICustomizableViewer {
     }
 
     try {
-      M_NETWORK_MANAGER__RECEIVE_PACKET.invoke(networkManager, null, packet);
+      receiver.receivePacket(networkManager, null, packet);
 
       if (received != null)
         received.run();
@@ -0,0 +1,39 @@
+package me.blvckbytes.bblibreflect;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 05/23/2022
+
+  Commonly used priorities to be used when registering a packet modifier, which map to
+  numeric priorities. Modifiers of higher priorities are called first. Just like before
+  there were numeric priorities, a HIGH modifier is called ahead of all previously
+  registered modifiers of the same priority, while a LOW modifier is called behind them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@AllArgsConstructor
+public enum ModificationPriority {
+  HIGH(100, true),
+  LOW(-100, false)
+  ;
+
+  private final int value;
+
+  // Whether to call the modifier ahead of previously registered ones of the same priority
+  private final boolean aheadOfEqual;
+}
@@ -0,0 +1,183 @@
+package me.blvckbytes.bblibreflect;
+
+import lombok.Getter;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  An immutable chain of packet modifiers, ordered by descending priority and by
+  registration order among equal priorities. Changes create a new chain, which is
+  then to be swapped in atomically, so that the chain which is currently being
+  iterated by channel handlers never changes underneath them. Each chain builds
+  it's dispatch table once, right away, out of the interests its entries captured
+  when their modifier was registered.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class ModifierChain {
+
+  // Chain without any modifiers
+  static final ModifierChain EMPTY = new ModifierChain(new Entry[0]);
+
+  @Getter
+  static class Entry {
+
+    private final IPacketModifier modifier;
+    private final int priority;
+
+    // Whether the entry is placed ahead of all others of the same priority
+    private final boolean aheadOfEqual;
+
+    // Classes of interest per direction, null if interested in all packets
+    private final Class<?> @Nullable [] incomingInterests, outgoingInterests;
+
+    /**
+     * Create a new chain entry, which queries the modifier's interests right away
+     * @param modifier Modifier to call
+     * @param priority Priority of the modifier, higher priorities are called first
+     * @param aheadOfEqual Whether to place the entry ahead of all others of the same priority
+     */
+    Entry(IPacketModifier modifier, int priority, boolean aheadOfEqual) {
+      this.modifier = modifier;
+      this.priority = priority;
+      this.aheadOfEqual = aheadOfEqual;
+      this.incomingInterests = queryInterests(modifier, PacketDirection.INCOMING);
+      this.outgoingInterests = queryInterests(modifier, PacketDirection.OUTGOING);
+    }
+
+    /**
+     * Query the interests of a modifier in a given direction
+     * @param modifier Modifier to query
+     * @param direction Direction to query
+     * @return Classes of interest, null if interested in all packets
+     */
+    private static Class<?> @Nullable [] queryInterests(IPacketModifier modifier, PacketDirection direction) {
+      Collection<ClassHandle> interests = modifier.getInterests(direction);
+      return interests == null ? null : interests.stream().map(ClassHandle::get).toArray(Class<?>[]::new);
+    }
+  }
+
+  private final Entry[] entries;
+
+  @Getter private final ModifierDispatchTable dispatch;
+
+  /**
+   * Create a new chain of modifiers
+   * @param entries Entries in the order they're to be called in
+   */
+  private ModifierChain(Entry[] entries) {
+    this.entries = entries;
+    this.dispatch = new ModifierDispatchTable(entries);
+  }
+
+  /**
+   * Create a new chain which additionally contains the given entry, placed behind all
+   * others of a higher priority and either ahead of or behind those of the same priority
+   * @param entry Entry to add
+   * @return New chain
+   */
+  ModifierChain with(Entry entry) {
+    int index = 0;
+    while (index < entries.length && (
+      entries[index].priority > entry.priority ||
+      (entries[index].priority == entry.priority && !entry.aheadOfEqual)
+    ))
+      index++;
+
+    Entry[] newEntries = new Entry[entries.length + 1];
+
+    System.arraycopy(entries, 0, newEntries, 0, index);
+    newEntries[index] = entry;
+    System.arraycopy(entries, index, newEntries, index + 1, entries.length - index);
+
+    return new ModifierChain(newEntries);
+  }
+
+  /**
+   * Create a new chain which no longer contains the given modifier
+   * @param modifier Modifier to remove
+   * @return New chain, this chain if it didn't contain the modifier
+   */
+  ModifierChain without(IPacketModifier modifier) {
+    Entry[] newEntries = new Entry[entries.length];
+    int size = 0;
+
+    for (Entry entry : entries) {
+      if (entry.modifier.equals(modifier))
+        continue;
+
+      newEntries[size++] = entry;
+    }
+
+    // Not contained
+    if (size == entries.length)
+      return this;
+
+    if (size == 0)
+      return EMPTY;
+
+    return new ModifierChain(Arrays.copyOf(newEntries, size));
+  }
+
+  /**
+   * Create a new chain which contains the modifiers of both this and another chain,
+   * ordered by priority, where modifiers of this chain come first among equal priorities
+   * @param other Chain to merge with, optional
+   * @return New chain, either chain itself if the other one is empty
+   */
+  ModifierChain merge(@Nullable ModifierChain other) {
+    if (other == null || other.isEmpty())
+      return this;
+
+    if (isEmpty())
+      return other;
+
+    int size = entries.length + other.entries.length;
+    Entry[] newEntries = new Entry[size];
+
+    for (int i = 0, a = 0, b = 0; i < size; i++) {
+      // Take from this chain while the other one's next modifier isn't of a higher priority
+      boolean takeThis = b == other.entries.length || (a < entries.length && entries[a].priority >= other.entries[b].priority);
+      newEntries[i] = takeThis ? entries[a++] : other.entries[b++];
+    }
+
+    return new ModifierChain(newEntries);
+  }
+
+  /**
+   * Checks whether this chain contains the given modifier
+   * @param modifier Modifier to check
+   */
+  boolean contains(IPacketModifier modifier) {
+    for (Entry entry : entries) {
+      if (entry.modifier.equals(modifier))
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks whether this chain contains no modifiers at all
+   */
+  boolean isEmpty() {
+    return entries.length == 0;
+  }
+}
@@ -0,0 +1,151 @@
+package me.blvckbytes.bblibreflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Dispatches packets to only those modifiers of a fixed, ordered chain which declared
+  interest in them. The interests have been queried once at registration, while the
+  modifiers of each packet class are filtered out on the first packet of that class and
+  then looked up by the class's ID directly, keeping the order of the chain.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class ModifierDispatchTable {
+
+  private static final IPacketModifier[] NONE = new IPacketModifier[0];
+
+  private final IPacketModifier[] modifiers;
+
+  // Classes of interest per modifier, null entries are interested in all packets
+  private final Class<?>[][] incomingInterests, outgoingInterests;
+
+  // Interested modifiers indexed by packet class ID, computed on first use and
+  // copied on write, so that lookups never have to synchronize
+  private volatile IPacketModifier[][] incoming, outgoing;
+
+  /**
+   * Create a new dispatch table out of the interests the entries of a chain captured
+   * @param entries Entries in the order their modifiers are to be called in
+   */
+  ModifierDispatchTable(ModifierChain.Entry[] entries) {
+    this.modifiers = new IPacketModifier[entries.length];
+    this.incomingInterests = new Class<?>[entries.length][];
+    this.outgoingInterests = new Class<?>[entries.length][];
+
+    for (int i = 0; i < entries.length; i++) {
+      this.modifiers[i] = entries[i].getModifier();
+      this.incomingInterests[i] = entries[i].getIncomingInterests();
+      this.outgoingInterests[i] = entries[i].getOutgoingInterests();
+    }
+
+    this.incoming = new IPacketModifier[0][];
+    this.outgoing = new IPacketModifier[0][];
+  }
+
+  /**
+   * Get all modifiers which are interested in an incoming packet
+   * @param packet Classification of the packet's class
+   * @return Interested modifiers in order, not to be modified
+   */
+  IPacketModifier[] getIncoming(PacketClassifier.Classification packet) {
+    IPacketModifier[][] table = incoming;
+    int id = packet.getId();
+
+    if (id < table.length && table[id] != null)
+      return table[id];
+
+    synchronized (this) {
+      incoming = table = extend(incoming, packet, incomingInterests);
+      return table[id];
+    }
+  }
+
+  /**
+   * Get all modifiers which are interested in an outgoing packet
+   * @param packet Classification of the packet's class
+   * @return Interested modifiers in order, not to be modified
+   */
+  IPacketModifier[] getOutgoing(PacketClassifier.Classification packet) {
+    IPacketModifier[][] table = outgoing;
+    int id = packet.getId();
+
+    if (id < table.length && table[id] != null)
+      return table[id];
+
+    synchronized (this) {
+      outgoing = table = extend(outgoing, packet, outgoingInterests);
+      return table[id];
+    }
+  }
+
+  /**
+   * Create a copy of a table which additionally contains the interested modifiers of a packet class
+   * @param table Table to extend
+   * @param packet Classification of the packet's class
+   * @param interests Classes of interest per modifier
+   * @return Extended table
+   */
+  private IPacketModifier[][] extend(IPacketModifier[][] table, PacketClassifier.Classification packet, Class<?>[][] interests) {
+    int id = packet.getId();
+
+    // Has been computed by another thread in the meantime
+    if (id < table.length && table[id] != null)
+      return table;
+
+    IPacketModifier[][] result = Arrays.copyOf(table, Math.max(table.length, id + 1));
+    result[id] = filterInterested(interests, packet.getType());
+    return result;
+  }
+
+  /**
+   * Filter out all modifiers which are interested in a given packet class
+   * @param interests Classes of interest per modifier
+   * @param packetType Class of the packet
+   * @return Interested modifiers in order
+   */
+  private IPacketModifier[] filterInterested(Class<?>[][] interests, Class<?> packetType) {
+    List<IPacketModifier> result = new ArrayList<>();
+
+    for (int i = 0; i < modifiers.length; i++) {
+      if (isInterested(interests[i], packetType))
+        result.add(modifiers[i]);
+    }
+
+    return result.isEmpty() ? NONE : result.toArray(IPacketModifier[]::new);
+  }
+
+  /**
+   * Checks whether a packet class is covered by the interests of a modifier
+   * @param interests Classes of interest, null for all packets
+   * @param packetType Class of the packet
+   */
+  private boolean isInterested(Class<?> @Nullable [] interests, Class<?> packetType) {
+    if (interests == null)
+      return true;
+
+    for (Class<?> interest : interests) {
+      if (interest.isAssignableFrom(packetType))
+        return true;
+    }
+
+    return false;
+  }
+}
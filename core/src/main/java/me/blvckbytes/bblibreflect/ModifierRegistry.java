@@ -0,0 +1,185 @@
+package me.blvckbytes.bblibreflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Holds the chain of global modifiers as well as the chains of player specific
+  modifiers, which are swapped atomically on every change. A stamp is advanced after
+  each change, which allows channel handlers to detect whether their merged chain
+  is stale by a single read, without looking up their player's chain per packet.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+class ModifierRegistry {
+
+  // Chain of globally registered modifiers
+  private final AtomicReference<ModifierChain> globalModifiers;
+
+  // Chains of per-player registered modifiers
+  // Use UUIDs here to allow persistence across re-joins
+  private final Map<UUID, ModifierChain> specificModifiers;
+
+  // Advanced after the chains have been changed
+  private final AtomicInteger stamp;
+
+  ModifierRegistry() {
+    this.globalModifiers = new AtomicReference<>(ModifierChain.EMPTY);
+    this.specificModifiers = new ConcurrentHashMap<>();
+    this.stamp = new AtomicInteger();
+  }
+
+  /**
+   * Add a modifier to the global chain
+   * @param modifier Modifier to add
+   * @param priority Priority of the modifier, higher priorities are called first
+   */
+  void register(IPacketModifier modifier, int priority) {
+    register(new ModifierChain.Entry(modifier, priority, false));
+  }
+
+  /**
+   * Add a modifier to the global chain
+   * @param modifier Modifier to add
+   * @param priority Priority of the modifier, see {@link ModificationPriority}
+   */
+  void register(IPacketModifier modifier, ModificationPriority priority) {
+    register(new ModifierChain.Entry(modifier, priority.getValue(), priority.isAheadOfEqual()));
+  }
+
+  /**
+   * Add an entry to the global chain
+   * @param entry Entry to add
+   */
+  private void register(ModifierChain.Entry entry) {
+    // The entry queried the interests only once, as updates may be retried
+    globalModifiers.updateAndGet(chain -> chain.with(entry));
+    stamp.incrementAndGet();
+  }
+
+  /**
+   * Remove a modifier from the global chain
+   * @param modifier Modifier to remove
+   */
+  void unregister(IPacketModifier modifier) {
+    globalModifiers.updateAndGet(chain -> chain.without(modifier));
+    stamp.incrementAndGet();
+  }
+
+  /**
+   * Checks whether the global chain contains a modifier
+   * @param modifier Modifier to check
+   */
+  boolean isRegistered(IPacketModifier modifier) {
+    return globalModifiers.get().contains(modifier);
+  }
+
+  /**
+   * Add a modifier to the chain of a specific player
+   * @param target Player to target with this modifier
+   * @param modifier Modifier to add
+   * @param priority Priority of the modifier, higher priorities are called first
+   */
+  void registerSpecific(UUID target, IPacketModifier modifier, int priority) {
+    registerSpecific(target, new ModifierChain.Entry(modifier, priority, false));
+  }
+
+  /**
+   * Add a modifier to the chain of a specific player
+   * @param target Player to target with this modifier
+   * @param modifier Modifier to add
+   * @param priority Priority of the modifier, see {@link ModificationPriority}
+   */
+  void registerSpecific(UUID target, IPacketModifier modifier, ModificationPriority priority) {
+    registerSpecific(target, new ModifierChain.Entry(modifier, priority.getValue(), priority.isAheadOfEqual()));
+  }
+
+  /**
+   * Add an entry to the chain of a specific player
+   * @param target Player to target with this modifier
+   * @param entry Entry to add
+   */
+  private void registerSpecific(UUID target, ModifierChain.Entry entry) {
+    // Start out with an empty chain if the player is not yet known
+    specificModifiers.compute(target, (uuid, chain) -> (
+      (chain == null ? ModifierChain.EMPTY : chain).with(entry)
+    ));
+    stamp.incrementAndGet();
+  }
+
+  /**
+   * Remove a modifier from the chain of a specific player
+   * @param target Player targetted with this modifier
+   * @param modifier Modifier to remove
+   */
+  void unregisterSpecific(UUID target, IPacketModifier modifier) {
+    // Remove from map when no more modifiers remain
+    specificModifiers.computeIfPresent(target, (uuid, chain) -> {
+      ModifierChain result = chain.without(modifier);
+      return result.isEmpty() ? null : result;
+    });
+    stamp.incrementAndGet();
+  }
+
+  /**
+   * Checks whether the chain of a specific player contains a modifier
+   * @param target Player targetted with this modifier
+   * @param modifier Modifier to check
+   */
+  boolean isRegisteredSpecific(UUID target, IPacketModifier modifier) {
+    ModifierChain chain = specificModifiers.get(target);
+    return chain != null && chain.contains(modifier);
+  }
+
+  /**
+   * Remove all global as well as all specific modifiers
+   */
+  void clear() {
+    globalModifiers.set(ModifierChain.EMPTY);
+    specificModifiers.clear();
+    stamp.incrementAndGet();
+  }
+
+  /**
+   * Get the current chain of global modifiers
+   */
+  ModifierChain getGlobal() {
+    return globalModifiers.get();
+  }
+
+  /**
+   * Get the current chain of modifiers specific to a player
+   * @param target Target player
+   * @return Chain of modifiers, null if there are none
+   */
+  @Nullable ModifierChain getSpecific(UUID target) {
+    return specificModifiers.get(target);
+  }
+
+  /**
+   * Get the current stamp, which changes whenever any of the chains has been changed
+   * and is to be read before reading the chains themselves
+   */
+  int getStamp() {
+    return stamp.get();
+  }
+}
@@ -0,0 +1,230 @@
+package me.blvckbytes.bblibreflect;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import me.blvckbytes.bblibreflect.communicator.IPacketCommunicator;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.TrackedClassValue;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Classifies the classes of messages which pass through a channel once and caches
+  the result for as long as the class lives. Packet classes are assigned dense IDs
+  in the order they're first seen, which allows to key arrays and bitsets by them.
+  Directions and phases are derived from both the legacy (PacketPlayOutX) and the
+  mojang mapped (ClientboundXPacket) naming schemes and are unknown for any others.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PacketClassifier {
+
+  @Getter
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class Classification {
+    // Dense ID of the packet class, -1 for non-packets
+    private final int id;
+    private final Class<?> type;
+    private final boolean packet;
+    private final @Nullable PacketDirection direction;
+    private final @Nullable ProtocolPhase phase;
+
+    // Communicator which manages packets of this class
+    @Setter(AccessLevel.PRIVATE)
+    private volatile @Nullable IPacketCommunicator<?> communicator;
+
+    @Override
+    public String toString() {
+      return id + ": " + type.getName() + " (" + direction + ", " + phase + ")";
+    }
+  }
+
+  // Common package of all mojang mapped packets, followed by the phase
+  private static final String PROTOCOL_PACKAGE = "net.minecraft.network.protocol.";
+
+  private final Class<?> packetType;
+
+  // Packet classifications, indexed by their ID
+  private final List<Classification> packets;
+
+  private final TrackedClassValue<Classification> classifications;
+
+  /**
+   * Create a new classifier which recognizes packets by their base type
+   * @param packetType Type all packets implement
+   */
+  public PacketClassifier(ClassHandle packetType) {
+    this.packetType = packetType.get();
+    this.packets = new ArrayList<>();
+
+    this.classifications = new TrackedClassValue<>(this::classify);
+  }
+
+  /**
+   * Get the classification of a message class, which will be computed on first access
+   * @param type Class of the message
+   * @return Classification of the class
+   */
+  public Classification of(Class<?> type) {
+    return classifications.get(type);
+  }
+
+  /**
+   * Get the classification of a packet class by it's ID
+   * @param id ID of the packet class
+   * @return Classification of the class, null if no class has been assigned this ID
+   */
+  public @Nullable Classification getById(int id) {
+    synchronized (packets) {
+      return id >= 0 && id < packets.size() ? packets.get(id) : null;
+    }
+  }
+
+  /**
+   * Get the number of packet IDs which have been assigned so far, which is
+   * an exclusive upper bound of all IDs
+   */
+  public int getIdCount() {
+    synchronized (packets) {
+      return packets.size();
+    }
+  }
+
+  /**
+   * Set the communicator which manages packets of a given class
+   * @param type Class of the packets
+   * @param communicator Communicator in charge
+   */
+  public void setCommunicator(ClassHandle type, IPacketCommunicator<?> communicator) {
+    of(type.get()).setCommunicator(communicator);
+  }
+
+  /**
+   * Remove all computed classifications. IDs are not reassigned, as they may still be held by others.
+   */
+  public void clearCaches() {
+    classifications.clear();
+  }
+
+  /**
+   * Classify a message class and assign an ID if it's a packet class
+   * @param type Class of the message
+   * @return Classification of the class
+   */
+  private Classification classify(Class<?> type) {
+    if (!packetType.isAssignableFrom(type) || type.isInterface())
+      return new Classification(-1, type, false, null, null);
+
+    synchronized (packets) {
+      // Reuse IDs of classes which have been classified before clearing
+      for (Classification packet : packets) {
+        if (packet.getType() == type)
+          return packet;
+      }
+
+      Classification result = new Classification(
+        packets.size(), type, true,
+        parseDirection(type), parsePhase(type)
+      );
+
+      packets.add(result);
+      return result;
+    }
+  }
+
+  /**
+   * Parse the direction of a packet class from it's name
+   * @param type Class of the packet
+   * @return Direction of the packet, null if unknown
+   */
+  private @Nullable PacketDirection parseDirection(Class<?> type) {
+    String name = type.getSimpleName();
+
+    if (name.startsWith("Serverbound"))
+      return PacketDirection.INCOMING;
+
+    if (name.startsWith("Clientbound"))
+      return PacketDirection.OUTGOING;
+
+    // Legacy names carry their direction right after their phase
+    for (ProtocolPhase phase : ProtocolPhase.values()) {
+      String prefix = "Packet" + legacyPhaseName(phase);
+
+      if (!name.startsWith(prefix))
+        continue;
+
+      if (name.startsWith("In", prefix.length()))
+        return PacketDirection.INCOMING;
+
+      if (name.startsWith("Out", prefix.length()))
+        return PacketDirection.OUTGOING;
+    }
+
+    return null;
+  }
+
+  /**
+   * Parse the protocol phase of a packet class from it's name or package
+   * @param type Class of the packet
+   * @return Phase of the packet, null if unknown
+   */
+  private @Nullable ProtocolPhase parsePhase(Class<?> type) {
+    String name = type.getSimpleName();
+
+    for (ProtocolPhase phase : ProtocolPhase.values()) {
+      if (name.startsWith("Packet" + legacyPhaseName(phase)))
+        return phase;
+    }
+
+    // Mojang mapped packets are grouped by their phase
+    String packageName = type.getPackageName();
+
+    if (!packageName.startsWith(PROTOCOL_PACKAGE))
+      return null;
+
+    switch (packageName.substring(PROTOCOL_PACKAGE.length())) {
+      case "handshake":
+        return ProtocolPhase.HANDSHAKING;
+
+      case "status":
+        return ProtocolPhase.STATUS;
+
+      case "login":
+        return ProtocolPhase.LOGIN;
+
+      case "game":
+        return ProtocolPhase.PLAY;
+
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Get the name of a phase as it's used within legacy packet names
+   * @param phase Phase to get the name of
+   */
+  private String legacyPhaseName(ProtocolPhase phase) {
+    String name = phase.name().toLowerCase(Locale.ROOT);
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+}
@@ -39,15 +39,13 @@ public class PacketCommunicatorRegistry implements IPacketCommunicatorRegistry {
   private final Map<Class<?>, IPacketInCommunicator<ICommunicatorParameter>> inCommunicators;
   private final Map<Class<?>, IPacketOutCommunicator<ICommunicatorParameter>> outCommunicators;
 
-  // Mapping communicator packet types to their managing communicator
-  private final Map<ClassHandle, IPacketInCommunicator<ICommunicatorParameter>> inParsers;
-  private final Map<ClassHandle, IPacketOutCommunicator<ICommunicatorParameter>> outParsers;
+  // Classifier which maps communicator packet types to their managing communicator
+  private final PacketClassifier classifier;
 
-  public PacketCommunicatorRegistry() {
+  public PacketCommunicatorRegistry(PacketClassifier classifier) {
     this.inCommunicators = new HashMap<>();
     this.outCommunicators = new HashMap<>();
-    this.inParsers = new HashMap<>();
-    this.outParsers = new HashMap<>();
+    this.classifier = classifier;
   }
 
   @Override
@@ -55,13 +53,13 @@ public class PacketCommunicatorRegistry implements IPacketCommunicatorRegistry {
   public void registerCommunicator(IPacketCommunicator<? extends ICommunicatorParameter> communicator) {
     if (communicator instanceof IPacketInCommunicator<?>) {
       inCommunicators.put(communicator.getParameterType(), (IPacketInCommunicator<ICommunicatorParameter>) communicator);
-      inParsers.put(communicator.getPacketType(), (IPacketInCommunicator<ICommunicatorParameter>) communicator);
+      classifier.setCommunicator(communicator.getPacketType(), communicator);
       return;
     }
 
     if (communicator instanceof IPacketOutCommunicator<?>) {
       outCommunicators.put(communicator.getParameterType(), (IPacketOutCommunicator<ICommunicatorParameter>) communicator);
-      outParsers.put(communicator.getPacketType(), (IPacketOutCommunicator<ICommunicatorParameter>) communicator);
+      classifier.setCommunicator(communicator.getPacketType(), communicator);
       return;
     }
 
@@ -189,23 +187,25 @@ public class PacketCommunicatorRegistry implements IPacketCommunicatorRegistry {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public @Nullable ICommunicatorParameter parseIncoming(Object packet) {
-    IPacketInCommunicator<ICommunicatorParameter> communicator = inParsers.get(ClassHandle.of(packet.getClass()));
+    IPacketCommunicator<?> communicator = classifier.of(packet.getClass()).getCommunicator();
 
-    if (communicator == null)
+    if (!(communicator instanceof IPacketInCommunicator))
       return null;
 
-    return communicator.parseIncoming(packet);
+    return ((IPacketInCommunicator<ICommunicatorParameter>) communicator).parseIncoming(packet);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public @Nullable ICommunicatorParameter parseOutgoing(Object packet) {
-    IPacketOutCommunicator<ICommunicatorParameter> communicator = outParsers.get(ClassHandle.of(packet.getClass()));
+    IPacketCommunicator<?> communicator = classifier.of(packet.getClass()).getCommunicator();
 
-    if (communicator == null)
+    if (!(communicator instanceof IPacketOutCommunicator))
       return null;
 
-    return communicator.parseOutgoing(packet);
+    return ((IPacketOutCommunicator<ICommunicatorParameter>) communicator).parseOutgoing(packet);
   }
 
   @Override
@@ -1,15 +1,10 @@
 package me.blvckbytes.bblibreflect;
 
-import org.jetbrains.annotations.Nullable;
-
-import java.util.UUID;
-
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
-  Created On: 04/23/2022
+  Created On: 08/21/2022
 
-  Represents a class that can modify in- and outgoing packets
-  and will be registered within a chain of modifiers
+  Directions a packet can travel in, as seen from the server.
 
   This program is free software: you can redistribute it and/or modify
   it under the terms of the GNU Affero General Public License as published
@@ -24,10 +19,10 @@ import java.util.UUID;
   You should have received a copy of the GNU Affero General Public License
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
-public interface IPacketModifier {
-
-  Object modifyIncoming(IPacketReceiver sender, Object incoming);
-
-  Object modifyOutgoing(IPacketReceiver receiver, Object outgoing);
+public enum PacketDirection {
+  // Received from the client
+  INCOMING,
 
+  // Sent to the client
+  OUTGOING
 }
@@ -13,7 +13,6 @@ import me.blvckbytes.bblibreflect.handle.ClassHandle;
 import me.blvckbytes.bblibreflect.handle.FieldHandle;
 import me.blvckbytes.bblibreflect.handle.MethodHandle;
 import me.blvckbytes.bblibutil.APlugin;
-import me.blvckbytes.bblibutil.Tuple;
 import me.blvckbytes.bblibutil.logger.ILogger;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -58,12 +57,8 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
   // Name of ChannelHandler within the player's pipeline
   private final String HANDLER_NAME;
 
-  // List of globally registered modifiers
-  private final List<Tuple<IPacketModifier, ModificationPriority>> globalModifiers;
-
-  // List of per-player registered modifiers
-  // Use UUIDs here to allow persistence across re-joins
-  private final Map<UUID, ArrayList<Tuple<IPacketModifier, ModificationPriority>>> specificModifiers;
+  // Chains of globally and per-player registered modifiers
+  private final ModifierRegistry modifiers;
 
   // List of wrapped players
   private final Map<UUID, ICustomizableViewer> viewers;
@@ -78,6 +73,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
   @Nullable private Object vanillaChannelFutureList;
 
   @Getter private final IPacketCommunicatorRegistry packetCommunicatorRegistry;
+  @Getter private final PacketClassifier packetClassifier;
 
   private final ILogger logger;
   private final APlugin plugin;
@@ -87,8 +83,10 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     F_SERVER_CONNECTION__FUTURE_LIST, F_PI_HANDSHAKE__VERSION,  F_PO_LOGIN__GAME_PROFILE, F_PO_OPEN_WINDOW__WINDOW_ID,
     F_PI_KEEP_ALIVE__ID, F_PO_KEEP_ALIVE__ID;
 
-  private final MethodHandle M_CRAFT_PLAYER__GET_HANDLE, M_NETWORK_MANAGER__SEND_PACKET,
-    M_CHANNEL_INITIALIZER__INIT_CHANNEL, M_NETWORK_MANAGER__RECEIVE_PACKET;
+  private final MethodHandle M_CRAFT_PLAYER__GET_HANDLE, M_CHANNEL_INITIALIZER__INIT_CHANNEL;
+
+  private final INetworkManagerSender NETWORK_MANAGER_SENDER;
+  private final INetworkManagerReceiver NETWORK_MANAGER_RECEIVER;
 
   private final ClassHandle C_PI_HANDSHAKE,  C_PO_OPEN_WINDOW, C_PO_LOGIN, C_PI_KEEP_ALIVE, C_PO_KEEP_ALIVE;
 
@@ -113,9 +111,20 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     C_PO_KEEP_ALIVE  = reflection.getClass(RClass.PACKET_O_KEEP_ALIVE);
     C_PI_KEEP_ALIVE  = reflection.getClass(RClass.PACKET_I_KEEP_ALIVE);
 
-    M_CRAFT_PLAYER__GET_HANDLE        = C_CRAFT_PLAYER.locateMethod().withName("getHandle").required();
-    M_NETWORK_MANAGER__SEND_PACKET    = C_NETWORK_MANAGER.locateMethod().withParameters(C_PACKET).withParameters(GenericFutureListener.class).required();
-    M_NETWORK_MANAGER__RECEIVE_PACKET = C_NETWORK_MANAGER.locateMethod().withParameters(ChannelHandlerContext.class).withParameters(C_PACKET).required();
+    M_CRAFT_PLAYER__GET_HANDLE = C_CRAFT_PLAYER.locateMethod().withName("getHandle").required();
+
+    // Bind the methods every packet passes through once, in order to call them directly
+    NETWORK_MANAGER_SENDER = C_NETWORK_MANAGER.locateMethod()
+      .withParameters(C_PACKET)
+      .withParameters(GenericFutureListener.class)
+      .required()
+      .bind(INetworkManagerSender.class);
+
+    NETWORK_MANAGER_RECEIVER = C_NETWORK_MANAGER.locateMethod()
+      .withParameters(ChannelHandlerContext.class)
+      .withParameters(C_PACKET)
+      .required()
+      .bind(INetworkManagerReceiver.class);
 
     F_ENTITY_PLAYER__PLAYER_CONNECTION    = C_ENTITY_PLAYER.locateField().withType(C_PLAYER_CONNECTION).required();
     F_PLAYER_CONNECTION__NETWORK_MANAGER  = C_PLAYER_CONNECTION.locateField().withType(C_NETWORK_MANAGER).required();
@@ -132,11 +141,11 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     M_CHANNEL_INITIALIZER__INIT_CHANNEL = ClassHandle.of(ChannelInitializer.class).locateMethod().withName("initChannel").withParameters(Channel.class).required();
 
     // Packet modifier registry
-    this.globalModifiers = Collections.synchronizedList(new ArrayList<>());
-    this.specificModifiers = Collections.synchronizedMap(new HashMap<>());
+    this.modifiers = new ModifierRegistry();
     this.clientVersions = Collections.synchronizedMap(new HashMap<>());
 
-    this.packetCommunicatorRegistry = new PacketCommunicatorRegistry();
+    this.packetClassifier = new PacketClassifier(C_PACKET);
+    this.packetCommunicatorRegistry = new PacketCommunicatorRegistry(packetClassifier);
 
     this.viewers = Collections.synchronizedMap(new HashMap<>());
     this.logger = logger;
@@ -151,7 +160,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     );
 
     // Register self as a modifier
-    globalModifiers.add(new Tuple<>(this, ModificationPriority.HIGH));
+    register(this, ModificationPriority.HIGH);
 
     // Store client versions temporarily on the first available world
     this.clientVersionBuffer = Bukkit.getWorlds().get(0);
@@ -164,59 +173,44 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
   //                                   API                                   //
   //=========================================================================//
 
+  @Override
+  public void register(IPacketModifier modifier, int priority) {
+    this.modifiers.register(modifier, priority);
+  }
+
   @Override
   public void register(IPacketModifier modifier, ModificationPriority priority) {
-    this.globalModifiers.add(
-      priority == ModificationPriority.HIGH ? 0 : this.globalModifiers.size(),
-      new Tuple<>(modifier, priority)
-    );
+    this.modifiers.register(modifier, priority);
   }
 
   @Override
   public void unregister(IPacketModifier modifier) {
-    this.globalModifiers.removeIf(t -> t.getA().equals(modifier));
+    this.modifiers.unregister(modifier);
   }
 
   @Override
   public boolean isRegistered(IPacketModifier modifier) {
-    return this.globalModifiers
-      .stream()
-      .anyMatch(t -> t.getA().equals(modifier));
+    return this.modifiers.isRegistered(modifier);
+  }
+
+  @Override
+  public void registerSpecific(UUID target, IPacketModifier modifier, int priority) {
+    this.modifiers.registerSpecific(target, modifier, priority);
   }
 
   @Override
   public void registerSpecific(UUID target, IPacketModifier modifier, ModificationPriority priority) {
-    // Create empty list to add to
-    if (!this.specificModifiers.containsKey(target))
-      this.specificModifiers.put(target, new ArrayList<>());
-
-    // Add modifier to list
-    this.specificModifiers.get(target).add(
-      priority == ModificationPriority.HIGH ? 0 : this.specificModifiers.get(target).size(),
-      new Tuple<>(modifier, priority)
-    );
+    this.modifiers.registerSpecific(target, modifier, priority);
   }
 
   @Override
   public void unregisterSpecific(UUID target, IPacketModifier modifier) {
-    // Player not even known yet
-    if (!this.specificModifiers.containsKey(target))
-      return;
-
-    // Remove modifier from list
-    List<Tuple<IPacketModifier, ModificationPriority>> modifiers = this.specificModifiers.get(target);
-    modifiers.removeIf(t -> t.getA().equals(modifier));
-
-    // Remove from map when no more modifiers remain
-    if (modifiers.size() == 0)
-      this.specificModifiers.remove(target);
+    this.modifiers.unregisterSpecific(target, modifier);
   }
 
   @Override
   public boolean isRegisteredSpecific(UUID target, IPacketModifier modifier) {
-    return this.specificModifiers.getOrDefault(target, new ArrayList<>())
-      .stream()
-      .anyMatch(t -> t.getA().equals(modifier));
+    return this.modifiers.isRegisteredSpecific(target, modifier);
   }
 
   @Override
@@ -239,19 +233,8 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     // Unproxy the network manager list
     unproxyFutureList();
 
-    // Unregister all globals
-    // Loop in reverse to avoid concurrent modifications
-    for (int i = this.globalModifiers.size() - 1; i >= 0; i--)
-      this.unregister(this.globalModifiers.get(i).getA());
-
-    // Unregister all specifics
-    for (Map.Entry<UUID, ArrayList<Tuple<IPacketModifier, ModificationPriority>>> entry : specificModifiers.entrySet()) {
-
-      // Loop in reverse to avoid concurrent modifications
-      List<Tuple<IPacketModifier, ModificationPriority>> modifiers = entry.getValue();
-      for (int i = modifiers.size() - 1; i >= 0; i--)
-        this.unregisterSpecific(entry.getKey(), modifiers.get(i).getA());
-    }
+    // Unregister all globals and specifics
+    this.modifiers.clear();
 
     // Uninject all players before a reload
     for (Player p : Bukkit.getOnlinePlayers()) {
@@ -259,6 +242,9 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
       if (receiver != null)
         uninject(receiver);
     }
+
+    // Release all classifications, which are attached to the server's classes
+    packetClassifier.clearCaches();
   }
 
   @Override
@@ -316,7 +302,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
   private InterceptedViewer inject(Player p) {
     try {
       // Get the handle of the underlying CraftPlayer
-      Object entityPlayer = M_CRAFT_PLAYER__GET_HANDLE.invoke(p);
+      Object entityPlayer = M_CRAFT_PLAYER__GET_HANDLE.invoke0(p);
 
       // Get the NMS EntityPlayer's PlayerConnection
       Object playerConnection = F_ENTITY_PLAYER__PLAYER_CONNECTION.get(entityPlayer);
@@ -330,7 +316,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
       // Create a new intercepted viewer
       InterceptedViewer viewer = new InterceptedViewer(
         channel, networkManager, logger,
-        M_NETWORK_MANAGER__SEND_PACKET, M_NETWORK_MANAGER__RECEIVE_PACKET
+        NETWORK_MANAGER_SENDER, NETWORK_MANAGER_RECEIVER
       );
 
       // Try to look up the previous client version in the cache
@@ -385,9 +371,9 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
 
     // Create a new intercepted channel handler which will relay all traffic to interceptors
     ChannelDuplexHandler handler = new InterceptedChannelDuplexHandler(
-      logger, receiver,
-      // Provide refs to modifier lists to relay to
-      globalModifiers, specificModifiers
+      logger, receiver, packetClassifier,
+      // Provide access to the current chains to relay to
+      modifiers
     );
 
     // Create a new channel handler that overrides R/W to intercept
@@ -450,7 +436,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
       // Create a proxy which internally relays to the real list and catches add calls
       Object proxiedFutureList = Proxy.newProxyInstance(
         futureList.getClass().getClassLoader(),
-        new Class[]{List.class},
+        new Class<?>[]{List.class},
 
         (proxy, method, args) -> {
           // Proxy future before adding it to the list
@@ -515,7 +501,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
           @Override
           protected void initChannel(Channel ch) throws Exception {
             // Have the channel initialized by the real initializer first
-            M_CHANNEL_INITIALIZER__INIT_CHANNEL.invoke(vanillaInitializer, ch);
+            M_CHANNEL_INITIALIZER__INIT_CHANNEL.invoke1(vanillaInitializer, ch);
 
             // Get the network manager through the channel handler added by the vanilla initializer
             Object networkManager = ch.pipeline().get("packet_handler");
@@ -524,7 +510,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
             // UUID is staying null otherwise, which signals that it's a player-less receiver
             InterceptedViewer viewer = new InterceptedViewer(
               ch, networkManager, logger,
-              M_NETWORK_MANAGER__SEND_PACKET, M_NETWORK_MANAGER__RECEIVE_PACKET
+              NETWORK_MANAGER_SENDER, NETWORK_MANAGER_RECEIVER
             );
 
             injectChannel(viewer);
@@ -541,6 +527,14 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     }
   }
 
+  @Override
+  public @Nullable Collection<ClassHandle> getInterests(PacketDirection direction) {
+    if (direction == PacketDirection.INCOMING)
+      return List.of(C_PI_KEEP_ALIVE, C_PI_HANDSHAKE);
+
+    return List.of(C_PO_KEEP_ALIVE, C_PO_LOGIN, C_PO_OPEN_WINDOW);
+  }
+
   @Override
   public Object modifyIncoming(IPacketReceiver sender, Object incoming) {
     // Not an intercepted viewer, cannot update anything
@@ -552,7 +546,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
     try {
       // Incoming keep alive response
       if (C_PI_KEEP_ALIVE.isInstance(incoming)) {
-        long id = (long) F_PI_KEEP_ALIVE__ID.get(incoming);
+        long id = F_PI_KEEP_ALIVE__ID.getLong(incoming);
 
         // Only update if the response ID matched
         if (viewer.getLastHandshakeRequestId() == id)
@@ -565,7 +559,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
 
       // Update the client version, now that it's known
       if (C_PI_HANDSHAKE.isInstance(incoming)) {
-        int version = (int) F_PI_HANDSHAKE__VERSION.get(incoming);
+        int version = F_PI_HANDSHAKE__VERSION.getInt(incoming);
         viewer.setClientVersion(version);
         return incoming;
       }
@@ -588,7 +582,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
       // Outgoing keep alive request
       if (C_PO_KEEP_ALIVE.isInstance(outgoing)) {
         viewer.setLastHandshakeRequestStamp(System.currentTimeMillis());
-        viewer.setLastHandshakeRequestId((long) F_PO_KEEP_ALIVE__ID.get(outgoing));
+        viewer.setLastHandshakeRequestId(F_PO_KEEP_ALIVE__ID.getLong(outgoing));
         return outgoing;
       }
 
@@ -606,7 +600,7 @@ public class PacketInterceptor implements IPacketInterceptor, IPacketModifier, L
 
       // Update the client's window id
       if (C_PO_OPEN_WINDOW.isInstance(outgoing)) {
-        int windowId = (int) F_PO_OPEN_WINDOW__WINDOW_ID.get(outgoing);
+        int windowId = F_PO_OPEN_WINDOW__WINDOW_ID.getInt(outgoing);
         viewer.setCurrentWindowId(windowId);
       }
     } catch (Exception e) {
@@ -2,9 +2,9 @@ package me.blvckbytes.bblibreflect;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
-  Created On: 05/23/2022
+  Created On: 08/21/2022
 
-  All available priorities to be used when registering a packet modifier.
+  Phases of the protocol a connection passes through, each of which has it's own set of packets.
 
   This program is free software: you can redistribute it and/or modify
   it under the terms of the GNU Affero General Public License as published
@@ -19,7 +19,9 @@ package me.blvckbytes.bblibreflect;
   You should have received a copy of the GNU Affero General Public License
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
-public enum ModificationPriority {
-  HIGH,
-  LOW
+public enum ProtocolPhase {
+  HANDSHAKING,
+  STATUS,
+  LOGIN,
+  PLAY
 }
@@ -4,8 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import me.blvckbytes.bblibreflect.handle.ClassHandle;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -270,25 +269,39 @@ public enum RClass {
   ;
 
   private final String afterRefactor, beforeRefactor;
-  private static final Map<RClass, ClassHandle> cache;
+
+  // Resolved classes, indexed by ordinal
+  private static final AtomicReferenceArray<ClassHandle> cache;
 
   static {
-    cache = new HashMap<>();
+    cache = new AtomicReferenceArray<>(values().length);
   }
 
   public ClassHandle resolve(boolean afterRefactor, String version) throws ClassNotFoundException {
-    ClassHandle res = cache.get(this);
+    ClassHandle res = cache.get(ordinal());
 
     // Respond with cache result
     if (res != null)
       return res;
 
-    // Load class and then cache
+    // Load class without initializing it, as this may happen off the main thread,
+    // and then cache. Initialization occurs as soon as the class is actually used
     res = ClassHandle.of(
-      Class.forName((afterRefactor ? this.afterRefactor : this.beforeRefactor).replace("{v}", version))
+      Class.forName(
+        (afterRefactor ? this.afterRefactor : this.beforeRefactor).replace("{v}", version),
+        false, RClass.class.getClassLoader()
+      )
     );
 
-    cache.put(this, res);
+    cache.set(ordinal(), res);
     return res;
   }
+
+  /**
+   * Remove all resolved classes, so they're not referenced across reloads
+   */
+  public static void clearCache() {
+    for (int i = 0; i < cache.length(); i++)
+      cache.set(i, null);
+  }
 }
@@ -0,0 +1,382 @@
+package me.blvckbytes.bblibreflect;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.Getter;
+import me.blvckbytes.bblibdi.AutoConstruct;
+import me.blvckbytes.bblibdi.AutoInject;
+import me.blvckbytes.bblibdi.IAutoConstructed;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.ConstructorHandle;
+import me.blvckbytes.bblibreflect.handle.EnumHandle;
+import me.blvckbytes.bblibreflect.handle.HandleProfiler;
+import me.blvckbytes.bblibreflect.handle.MemberIndex;
+import me.blvckbytes.bblibreflect.handle.MethodHandle;
+import me.blvckbytes.bblibreflect.handle.PacketSchema;
+import me.blvckbytes.bblibreflect.handle.ResolutionCache;
+import me.blvckbytes.bblibutil.APlugin;
+import me.blvckbytes.bblibutil.UnsafeSupplier;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/13/2022
+
+  The central reflection helper endpoint which offers all reflection
+  and packet based routines.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AutoConstruct
+public class ReflectionHelper implements IReflectionHelper, IAutoConstructed {
+
+  // Size in bytes of the fake byte buffer size used to create
+  // zero-ed packets if there's no empty default constructor
+  private static final int FAKE_BUF_SIZE = 1024;
+
+  // Name of the system property which names the class resolver to use instead of the server's
+  public static final String CLASS_RESOLVER_PROPERTY = "bblibreflect.classResolver";
+
+  // Name of the file within the plugin's data folder which caches resolved members
+  private static final String RESOLUTION_CACHE_FILE = "resolution-cache.properties";
+
+  // Number of worker threads which load and index classes ahead of time
+  private static final int WARM_UP_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+  // Number of seconds to wait for the warm up workers to stop when cleaning up
+  private static final int WARM_UP_STOP_TIMEOUT_S = 5;
+
+  private final ILogger logger;
+  private final IClassResolver classResolver;
+  private final @Nullable ResolutionCache resolutionCache;
+
+  private final ClassHandle C_PACKET_DATA_SERIALIZER;
+  private final MethodHandle M_CIS__AS_NEW_CRAFT_STACK, M_FURNACE__GET_LUT, M_CIS__GET_TYPE;
+
+  private final Map<ClassHandle, UnsafeSupplier<Object>> packetConstructors;
+  private final Map<Material, Integer> burningTimes;
+
+  private final ByteBuf byteBuf;
+  private final Object packetDataSerializer;
+
+  // Server version information
+  @Getter private final String versionStr;
+  @Getter private final int[] versionNumbers;
+  @Getter private final boolean refactored;
+
+  @Getter private final CompletableFuture<Void> warmUp;
+  private final ExecutorService warmUpPool;
+  private final CompletableFuture<?>[] warmUpTasks;
+
+  /**
+   * Create a new reflection helper
+   * @param logger Logger to report errors to
+   * @param plugin Plugin to keep the resolution cache in the data folder of,
+   *               null to resolve all members from scratch on every boot
+   */
+  public ReflectionHelper(
+    @AutoInject ILogger logger,
+    @AutoInject @Nullable APlugin plugin
+  ) throws Exception {
+    this.logger = logger;
+    this.burningTimes = new HashMap<>();
+    this.packetConstructors = new HashMap<>();
+
+    this.classResolver = loadClassResolver();
+    this.versionStr = this.classResolver.getVersion();
+    this.versionNumbers = parseVersion(this.versionStr);
+    this.refactored = this.versionNumbers[1] >= 17;
+
+    // Activate the resolution cache before any predicates are dispatched, so
+    // that all members which are known from the last boot bind directly
+    this.resolutionCache = plugin == null ? null : new ResolutionCache(
+      new File(plugin.getDataFolder(), RESOLUTION_CACHE_FILE),
+      this.versionStr + "@" + fingerprintServerJar()
+    );
+    ResolutionCache.setActive(this.resolutionCache);
+
+    // Load and index all known classes in the background while components are
+    // being constructed, which will then find most of their classes ready
+    this.warmUpPool = Executors.newFixedThreadPool(WARM_UP_THREADS, runnable -> {
+      Thread thread = new Thread(runnable, "ReflectionHelper-WarmUp");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.warmUpTasks = warmUp();
+    this.warmUp = CompletableFuture.allOf(warmUpTasks).whenComplete((v, e) -> warmUpPool.shutdown());
+
+    ClassHandle C_ITEM = getClass(RClass.ITEM);
+    ClassHandle C_CIS = getClass(RClass.CRAFT_ITEM_STACK);
+    ClassHandle C_TEF = getClass(RClass.TILE_ENTITY_FURNACE);
+
+    C_PACKET_DATA_SERIALIZER = getClass(RClass.PACKET_DATA_SERIALIZER);
+    M_CIS__AS_NEW_CRAFT_STACK = C_CIS.locateMethod().withName("asNewCraftStack").withParameters(C_ITEM).withStatic(true).required();
+    M_CIS__GET_TYPE = C_CIS.locateMethod().withName("getType").withReturnType(Material.class).required();
+
+    M_FURNACE__GET_LUT = C_TEF.locateMethod()
+      .withReturnType(Map.class)
+      .withReturnGeneric(C_ITEM)
+      .withReturnGeneric(Integer.class)
+      .withStatic(true)
+      .required();
+
+    ConstructorHandle CTOR_PACKET_DATA_SERIALIZER = C_PACKET_DATA_SERIALIZER.locateConstructor().withParameters(ByteBuf.class).required();
+
+    // Create a single serializer on top of a byte buffer which itself is stateless
+    // to be reused whenever packets are to be created (rewinding the buffer first)
+    this.byteBuf = Unpooled.wrappedBuffer(new byte[FAKE_BUF_SIZE]);
+    this.packetDataSerializer = CTOR_PACKET_DATA_SERIALIZER.newInstance1(this.byteBuf);
+  }
+
+  @Override
+  public Object createEmptyPacket(ClassHandle c) throws Exception {
+    UnsafeSupplier<Object> creator = packetConstructors.get(c);
+
+    // Constructor not yet cached
+    if (creator == null) {
+
+      // Try to use the empty default constructor
+      ConstructorHandle empty = c.locateConstructor().optional();
+
+      ConstructorHandle constructor = (
+        // That didn't yield anything, now require there to
+        // be a packet data serializer constructor
+        empty == null ?
+          c.locateConstructor().withParameters(C_PACKET_DATA_SERIALIZER).required() :
+          empty
+      );
+
+      // Empty default constructor
+      if (constructor.getParameterCount() == 0)
+        creator = constructor::newInstance0;
+
+      // Packet data serializer constructor
+      else {
+        creator = () -> {
+          // TODO: Think about a way to cache packet instances and re-use them (thread safe!)
+          synchronized (byteBuf) {
+            // Rewind the buffer and create a new zero-ed packet
+            byteBuf.setIndex(0, FAKE_BUF_SIZE);
+            return constructor.newInstance1(packetDataSerializer);
+          }
+        };
+      }
+
+      // Store in cache
+      packetConstructors.put(c, creator);
+    }
+
+    return creator.get();
+  }
+
+  @Override
+  public ClassHandle getClass(RClass rc) throws ClassNotFoundException {
+    return classResolver.resolve(rc, this.versionStr, this.refactored);
+  }
+
+  @Override
+  public @Nullable ClassHandle getClassOptional(RClass rc) {
+    try {
+      return getClass(rc);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public @Nullable EnumHandle getEnumOptional(RClass rc) {
+    try {
+      return getClass(rc).asEnum();
+    } catch (ClassNotFoundException | IllegalStateException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public Optional<Integer> getBurnTime(Material mat) {
+    Integer dur = burningTimes.get(mat);
+    if (dur != null)
+      return Optional.of(dur);
+
+    try {
+      // Iterate all entries
+      Map<?, ?> lut = (Map<?, ?>) M_FURNACE__GET_LUT.invoke0(null);
+      for (Map.Entry<?, ?> e : lut.entrySet()) {
+        Object craftStack = M_CIS__AS_NEW_CRAFT_STACK.invoke1(null, e.getKey());
+        Material m = (Material) M_CIS__GET_TYPE.invoke0(craftStack);
+
+        // Material mismatch, continue
+        if (!mat.equals(m))
+          continue;
+
+        dur = (Integer) e.getValue();
+        burningTimes.put(mat, dur);
+        return Optional.of(dur);
+      }
+
+      return Optional.empty();
+    } catch (Exception e) {
+      e.printStackTrace();
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void cleanup() {
+    stopWarmUp();
+    saveResolutionCache();
+    ResolutionCache.setActive(null);
+
+    // Release all references into the server's classes
+    RClass.clearCache();
+    ClassHandle.clearCaches();
+    HandleProfiler.clear();
+  }
+
+  @Override
+  public void initialize() {
+    // All components resolved their members by now
+    saveResolutionCache();
+  }
+
+  /**
+   * Resolve all known classes in parallel on the pool of daemon workers and build their
+   * member indices and packet schemas, so that predicates dispatched later on don't have to
+   * @return One future per class, each completing as soon as it has been attempted
+   */
+  private CompletableFuture<?>[] warmUp() {
+    return Arrays.stream(RClass.values())
+      .map(rc -> CompletableFuture.runAsync(() -> {
+        // Cleaning up, don't fill the caches again
+        if (Thread.currentThread().isInterrupted())
+          return;
+
+        ClassHandle handle = getClassOptional(rc);
+
+        // Not available on this version
+        if (handle == null || Thread.currentThread().isInterrupted())
+          return;
+
+        MemberIndex.of(handle.get());
+
+        // Describe packets up front, so that modifiers don't build schemas on the netty threads
+        if ((rc.name().startsWith("PACKET_I_") || rc.name().startsWith("PACKET_O_")) && !Thread.currentThread().isInterrupted())
+          PacketSchema.of(handle);
+      }, warmUpPool))
+      .toArray(CompletableFuture[]::new);
+  }
+
+  /**
+   * Stop all warm up workers and wait for them to terminate, so that none of
+   * them populates the caches again after they have been cleared
+   */
+  private void stopWarmUp() {
+    warmUpPool.shutdownNow();
+
+    // Tasks which never started won't complete on their own
+    for (CompletableFuture<?> task : warmUpTasks)
+      task.cancel(false);
+
+    try {
+      if (!warmUpPool.awaitTermination(WARM_UP_STOP_TIMEOUT_S, TimeUnit.SECONDS))
+        logger.logError(new IllegalStateException("The warm up workers did not stop in time"));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Persist all resolved members, so the next boot can bind them directly
+   */
+  private void saveResolutionCache() {
+    // Caching has been disabled
+    if (resolutionCache == null)
+      return;
+
+    try {
+      resolutionCache.save();
+    } catch (IOException e) {
+      logger.logError(e);
+    }
+  }
+
+  /**
+   * Create a fingerprint which identifies the server jar by it's path, size and last
+   * modification time. This is not a hash of the jar's contents, which would have to read
+   * the whole file on every boot, but it changes whenever the jar is replaced. A rebuilt jar
+   * which kept the same fingerprint only costs searches, as cached members are matched
+   * against their predicates again when being bound.
+   * @return Fingerprint of the server jar, "unknown" if it couldn't be located
+   */
+  private String fingerprintServerJar() {
+    // Not running on a server, classes are provided by another resolver
+    if (Bukkit.getServer() == null)
+      return "unknown";
+
+    CodeSource source = Bukkit.getServer().getClass().getProtectionDomain().getCodeSource();
+
+    if (source == null)
+      return "unknown";
+
+    try {
+      File jar = new File(source.getLocation().toURI());
+      return Integer.toHexString(jar.getAbsolutePath().hashCode()) + "-" + jar.length() + "-" + jar.lastModified();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return "unknown";
+    }
+  }
+
+  /**
+   * Load the class resolver named by the {@link #CLASS_RESOLVER_PROPERTY} system property, if any
+   * @return Named class resolver, or the server resolver if there is none
+   * @throws ReflectiveOperationException The named resolver could not be instantiated
+   */
+  private IClassResolver loadClassResolver() throws ReflectiveOperationException {
+    String name = System.getProperty(CLASS_RESOLVER_PROPERTY);
+
+    if (name == null)
+      return new ServerClassResolver();
+
+    return Class.forName(name, true, ReflectionHelper.class.getClassLoader())
+      .asSubclass(IClassResolver.class)
+      .getConstructor()
+      .newInstance();
+  }
+
+  /**
+   * Get the major, minor and revision version numbers the server's running on
+   * @return [major, minor, revision]
+   */
+  private int[] parseVersion(String version) {
+    String[] data = version.split("_");
+    return new int[] {
+      Integer.parseInt(data[0].substring(1)), // remove leading v
+      Integer.parseInt(data[1]),
+      Integer.parseInt(data[2].substring(1)) // Remove leading R
+    };
+  }
+}
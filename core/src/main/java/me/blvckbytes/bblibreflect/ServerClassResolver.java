@@ -0,0 +1,38 @@
+package me.blvckbytes.bblibreflect;
+
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import org.bukkit.Bukkit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Resolves the known reflection required classes against the running server,
+  which is the default whenever no other class resolver has been registered.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ServerClassResolver implements IClassResolver {
+
+  @Override
+  public String getVersion() {
+    // The version is the last part of craftbukkit's package
+    return Bukkit.getServer().getClass().getName().split("\\.")[3];
+  }
+
+  @Override
+  public ClassHandle resolve(RClass rc, String version, boolean refactored) throws ClassNotFoundException {
+    return rc.resolve(refactored, version);
+  }
+}
@@ -10,8 +10,11 @@ import me.blvckbytes.bblibreflect.RClass;
 import me.blvckbytes.bblibreflect.communicator.parameter.ICommunicatorParameter;
 import me.blvckbytes.bblibreflect.handle.Assignability;
 import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.EnumHandle;
+import me.blvckbytes.bblibreflect.handle.EnumTranslation;
 import me.blvckbytes.bblibreflect.handle.FieldHandle;
 import me.blvckbytes.bblibreflect.handle.MethodHandle;
+import me.blvckbytes.bblibreflect.handle.ShallowCloner;
 import me.blvckbytes.bblibutil.UnsafeSupplier;
 import me.blvckbytes.bblibutil.component.IComponent;
 import me.blvckbytes.bblibutil.logger.ILogger;
@@ -19,6 +22,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Function;
+
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 08/14/2022
@@ -49,13 +54,25 @@ public abstract class APacketCommunicator<T extends ICommunicatorParameter> {
 
   protected final FieldHandle F_CRAFT_SERVER__MINECRAFT_SERVER;
 
+  protected final MethodHandle M_CRAFT_PLAYER__GET_PROFILE;
+
+  /**
+   * @deprecated Call the bound functions B_CHAT_SERIALIZER__FROM_JSON, B_CRAFT_ITEM_STACK__AS_NMS_COPY
+   * and B_CRAFT_PLAYER__GET_HANDLE instead, which don't go through reflection
+   */
+  @Deprecated
   protected final MethodHandle M_CHAT_SERIALIZER__FROM_JSON, M_CRAFT_ITEM_STACK__AS_NMS_COPY,
-    M_CRAFT_PLAYER__GET_PROFILE, M_CRAFT_PLAYER__GET_HANDLE ;
+    M_CRAFT_PLAYER__GET_HANDLE;
+
+  // Methods which are called for most packets, bound to call them directly
+  protected final Function<Object, Object> B_CHAT_SERIALIZER__FROM_JSON, B_CRAFT_ITEM_STACK__AS_NMS_COPY,
+    B_CRAFT_PLAYER__GET_HANDLE;
 
   protected final ClassHandle C_CHAT_SERIALIZER, C_BASE_COMPONENT, C_CRAFT_ITEM_STACK, C_ITEM_STACK,
     C_CRAFT_PLAYER, C_CRAFT_SERVER, C_MINECRAFT_SERVER, C_ENTITY_PLAYER;
 
-  protected final Object O_MINECRAFT_SERVER;
+  // Null when not running on a server
+  protected final @Nullable Object O_MINECRAFT_SERVER;
 
   @Getter
   private final ClassHandle packetType;
@@ -73,6 +90,7 @@ public abstract class APacketCommunicator<T extends ICommunicatorParameter> {
     this(logger, helper, interceptor, requiresViewer, packetType.get());
   }
 
+  @SuppressWarnings("unchecked")
   public APacketCommunicator(
     ILogger logger,
     IReflectionHelper helper,
@@ -113,11 +131,15 @@ public abstract class APacketCommunicator<T extends ICommunicatorParameter> {
 
     M_CRAFT_PLAYER__GET_HANDLE = C_CRAFT_PLAYER.locateMethod().withName("getHandle").required();
 
+    B_CHAT_SERIALIZER__FROM_JSON    = M_CHAT_SERIALIZER__FROM_JSON.bind(Function.class);
+    B_CRAFT_ITEM_STACK__AS_NMS_COPY = M_CRAFT_ITEM_STACK__AS_NMS_COPY.bind(Function.class);
+    B_CRAFT_PLAYER__GET_HANDLE      = M_CRAFT_PLAYER__GET_HANDLE.bind(Function.class);
+
     F_CRAFT_SERVER__MINECRAFT_SERVER = C_CRAFT_SERVER.locateField()
       .withType(C_MINECRAFT_SERVER, false, Assignability.TYPE_TO_TARGET)
       .required();
 
-    O_MINECRAFT_SERVER = F_CRAFT_SERVER__MINECRAFT_SERVER.get(Bukkit.getServer());
+    O_MINECRAFT_SERVER = Bukkit.getServer() == null ? null : F_CRAFT_SERVER__MINECRAFT_SERVER.get(Bukkit.getServer());
   }
 
   //=========================================================================//
@@ -142,17 +164,103 @@ public abstract class APacketCommunicator<T extends ICommunicatorParameter> {
    */
   protected abstract void personalizeBasePacket(Object packet, T parameter, ICustomizableViewer viewer) throws Exception;
 
+  /**
+   * Personalize a previously created base packet for a specific viewer and get the packet to be
+   * sent, which implementations override if their packets cannot be modified in place, like records.
+   * By default, the packet is personalized in place by {@link #personalizeBasePacket}.
+   * @param packet Packet to personalize
+   * @param parameter Parameter to personalize with
+   * @param viewer Viewer to personalize for
+   * @param shared Whether the packet is a shallow copy, which shares it's contents with other viewers
+   * @return Personalized packet, either the input itself or a personalized copy of it
+   * @throws Exception Internal errors
+   */
+  protected Object personalizeBasePacketCopy(Object packet, T parameter, ICustomizableViewer viewer, boolean shared) throws Exception {
+    personalizeBasePacket(packet, parameter, viewer);
+    return packet;
+  }
+
+  /**
+   * Whether this communicator personalizes base packets for each viewer, which implementations
+   * that send the same packet to every viewer disable in order to skip copying it
+   */
+  protected boolean supportsPersonalization() {
+    return true;
+  }
+
   //=========================================================================//
   //                                Utilities                                //
   //=========================================================================//
 
+  /**
+   * Personalize a previously created base packet for a specific viewer, if
+   * the implementation supports it, otherwise keep the base packet as is
+   * @param packet Packet to personalize
+   * @param parameter Parameter to personalize with
+   * @param viewer Viewer to personalize for
+   * @return Packet to be sent to the viewer
+   * @throws Exception Internal errors
+   */
+  protected Object tryPersonalizeBasePacket(Object packet, T parameter, ICustomizableViewer viewer) throws Exception {
+    if (!supportsPersonalization())
+      return packet;
+
+    try {
+      return personalizeBasePacketCopy(packet, parameter, viewer, false);
+    } catch (UnsupportedOperationException e) {
+      return packet;
+    }
+  }
+
+  /**
+   * Personalize a shallow copy of a previously created base packet for a specific viewer,
+   * if the implementation supports it, otherwise keep the base packet as is. Copies are
+   * required when a base packet is shared by multiple viewers, as previously personalized
+   * packets may still be queued up for sending while the next viewer is personalized for.
+   * @param packet Packet to personalize a copy of
+   * @param parameter Parameter to personalize with
+   * @param viewer Viewer to personalize for
+   * @return Packet to be sent to the viewer
+   * @throws Exception Internal errors
+   */
+  protected Object tryPersonalizeBasePacketCopy(Object packet, T parameter, ICustomizableViewer viewer) throws Exception {
+    // Not personalized, all viewers can share the base packet
+    if (!supportsPersonalization())
+      return packet;
+
+    try {
+      return personalizeBasePacketCopy(ShallowCloner.copyOf(packet), parameter, viewer, true);
+    } catch (UnsupportedOperationException e) {
+      return packet;
+    }
+  }
+
+  /**
+   * Build a translation table from a library enumeration into a version dependent
+   * enumeration and report all constants which cannot be translated on this version
+   * @param source Library enumeration to translate from
+   * @param target Version dependent enumeration to translate to
+   * @return Translation table
+   */
+  protected <E extends Enum<E>> EnumTranslation<E> translateEnum(Class<E> source, EnumHandle target) {
+    EnumTranslation<E> translation = target.translationFrom(source);
+
+    if (!translation.isComplete()) {
+      logger.logError(new IllegalStateException(
+        "Could not translate " + translation.getUnmapped() + " of " + translation + " on this server version"
+      ));
+    }
+
+    return translation;
+  }
+
   /**
    * Get the entity player reference of a bukkit player
    * @param p Target player
    * @return Entity player reference
    */
   protected Object getEntityPlayer(Player p) throws Exception {
-    return M_CRAFT_PLAYER__GET_HANDLE.invoke(p);
+    return B_CRAFT_PLAYER__GET_HANDLE.apply(p);
   }
 
   /**
@@ -173,7 +281,7 @@ public abstract class APacketCommunicator<T extends ICommunicatorParameter> {
    * @throws Exception Internal errors
    */
   public Object componentToBaseComponent(IComponent component, @Nullable ICustomizableViewer viewer) throws Exception {
-    return M_CHAT_SERIALIZER__FROM_JSON.invoke(null, component.toJson(viewer == null || viewer.cannotRenderHexColors()));
+    return B_CHAT_SERIALIZER__FROM_JSON.apply(component.toJson(viewer == null || viewer.cannotRenderHexColors()));
   }
 
   /**
@@ -188,11 +188,8 @@ public abstract class APacketInCommunicator<T extends ICommunicatorParameter> ex
     try {
       Object packet = createBasePacket(parameter);
 
-      try {
-        personalizeBasePacket(packet, parameter, viewer);
-      } catch (UnsupportedOperationException ignored) {}
-
-      receivePacketsFromReceiver(viewer, parameter, done, packet);
+      Object personalized = tryPersonalizeBasePacket(packet, parameter, viewer);
+      receivePacketsFromReceiver(viewer, parameter, done, personalized);
 
       return CommunicatorResult.SUCCESS;
     } catch (Exception e) {
@@ -214,11 +211,8 @@ public abstract class APacketInCommunicator<T extends ICommunicatorParameter> ex
       Object packet = createBasePacket(parameter);
 
       receivePacketsFromReceivers(viewers, done, (viewer, subDone) -> {
-        try {
-          personalizeBasePacket(packet, parameter, viewer);
-        } catch (UnsupportedOperationException ignored) {}
-
-        receivePacketsFromReceiver(viewer, parameter, subDone, packet);
+        Object personalized = tryPersonalizeBasePacketCopy(packet, parameter, viewer);
+        receivePacketsFromReceiver(viewer, parameter, subDone, personalized);
       });
 
       return CommunicatorResult.SUCCESS;
@@ -254,11 +248,8 @@ public abstract class APacketInCommunicator<T extends ICommunicatorParameter> ex
       receivePacketsFromReceivers(players, done, (player, subDone) -> {
         ICustomizableViewer viewer = interceptor.getPlayerAsViewer(player);
 
-        try {
-          personalizeBasePacket(packet, parameter, viewer);
-        } catch (UnsupportedOperationException ignored) {}
-
-        receivePacketsFromReceiver(viewer, parameter, subDone, packet);
+        Object personalized = tryPersonalizeBasePacketCopy(packet, parameter, viewer);
+        receivePacketsFromReceiver(viewer, parameter, subDone, personalized);
       });
 
       return CommunicatorResult.SUCCESS;
@@ -176,11 +176,8 @@ public abstract class APacketOutCommunicator<T extends ICommunicatorParameter> e
     try {
       Object packet = createBasePacket(parameter);
 
-      try {
-        personalizeBasePacket(packet, parameter, viewer);
-      } catch (UnsupportedOperationException ignored) {}
-
-      sendPacketsToReceiver(viewer, done, packet);
+      Object personalized = tryPersonalizeBasePacket(packet, parameter, viewer);
+      sendPacketsToReceiver(viewer, done, personalized);
 
       return CommunicatorResult.SUCCESS;
     } catch (Exception e) {
@@ -202,11 +199,8 @@ public abstract class APacketOutCommunicator<T extends ICommunicatorParameter> e
       Object packet = createBasePacket(parameter);
 
       sendPacketsToReceivers(viewers, done, (viewer, subDone) -> {
-        try {
-          personalizeBasePacket(packet, parameter, viewer);
-        } catch (UnsupportedOperationException ignored) {}
-
-        sendPacketsToReceiver(viewer, subDone, packet);
+        Object personalized = tryPersonalizeBasePacketCopy(packet, parameter, viewer);
+        sendPacketsToReceiver(viewer, subDone, personalized);
       });
 
       return CommunicatorResult.SUCCESS;
@@ -243,11 +237,8 @@ public abstract class APacketOutCommunicator<T extends ICommunicatorParameter> e
       sendPacketsToReceivers(players, done, (player, subDone) -> {
         ICustomizableViewer viewer = interceptor.getPlayerAsViewer(player);
 
-        try {
-          personalizeBasePacket(packet, parameter, viewer);
-        } catch (UnsupportedOperationException ignored) {}
-
-        sendPacketsToReceiver(viewer, subDone, packet);
+        Object personalized = tryPersonalizeBasePacketCopy(packet, parameter, viewer);
+        sendPacketsToReceiver(viewer, subDone, personalized);
       });
 
       return CommunicatorResult.SUCCESS;
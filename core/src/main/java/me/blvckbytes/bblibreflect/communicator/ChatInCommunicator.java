@@ -7,6 +7,7 @@ import me.blvckbytes.bblibreflect.communicator.parameter.ChatMessageParameter;
 import me.blvckbytes.bblibreflect.handle.ClassHandle;
 import me.blvckbytes.bblibreflect.handle.ConstructorHandle;
 import me.blvckbytes.bblibreflect.handle.FieldHandle;
+import me.blvckbytes.bblibreflect.handle.LazyHandle;
 import me.blvckbytes.bblibreflect.handle.MethodHandle;
 import me.blvckbytes.bblibutil.component.TextComponent;
 import me.blvckbytes.bblibutil.logger.ILogger;
@@ -38,10 +39,13 @@ import java.util.Optional;
 @AutoConstruct
 public class ChatInCommunicator extends APacketInCommunicator<ChatMessageParameter> {
 
-  private final FieldHandle F_PI_CHAT__MESSAGE, F_MINECRAFT_SERVER__PLAYER_LIST;
+  private final FieldHandle F_PI_CHAT__MESSAGE;
   private final ClassHandle C_CHAT_MESSAGE_TYPE, C_RESOURCE_KEY;
-  private final ConstructorHandle CTOR_FILTERED_TEXT, CTOR_PLAYER_CHAT_MESSAGE;
-  private final MethodHandle M_PLAYER_LIST__BROADCAST_CHAT_MESSAGE, M_MESSAGE_SIGNATURE__GET_UNSIGNED;
+
+  // Only needed when injecting chat on >= 1.19, resolved on first use
+  private final LazyHandle<FieldHandle> F_MINECRAFT_SERVER__PLAYER_LIST;
+  private final LazyHandle<ConstructorHandle> CTOR_FILTERED_TEXT, CTOR_PLAYER_CHAT_MESSAGE;
+  private final LazyHandle<MethodHandle> M_PLAYER_LIST__BROADCAST_CHAT_MESSAGE, M_MESSAGE_SIGNATURE__GET_UNSIGNED;
 
   public ChatInCommunicator(
     @AutoInject ILogger logger,
@@ -62,26 +66,26 @@ public class ChatInCommunicator extends APacketInCommunicator<ChatMessageParamet
 
       CTOR_FILTERED_TEXT = C_FILTERED_TEXT.locateConstructor()
         .withParameters(Object.class, Object.class)
-        .required();
+        .lazy();
 
       CTOR_PLAYER_CHAT_MESSAGE = helper.getClass(RClass.PLAYER_CHAT_MESSAGE)
         .locateConstructor()
         .withParameters(C_BASE_COMPONENT, C_MESSAGE_SIGNATURE)
         .withParameters(Optional.class)
-        .required();
+        .lazy();
 
       M_PLAYER_LIST__BROADCAST_CHAT_MESSAGE = C_PLAYER_LIST.locateMethod()
         .withParameters(C_FILTERED_TEXT, C_ENTITY_PLAYER, C_RESOURCE_KEY)
-        .required();
+        .lazy();
 
       F_MINECRAFT_SERVER__PLAYER_LIST = C_MINECRAFT_SERVER.locateField()
         .withType(C_PLAYER_LIST)
-        .required();
+        .lazy();
 
       M_MESSAGE_SIGNATURE__GET_UNSIGNED = C_MESSAGE_SIGNATURE.locateMethod()
         .withReturnType(C_MESSAGE_SIGNATURE)
         .withStatic(true)
-        .required();
+        .lazy();
     }
 
     else {
@@ -115,14 +119,14 @@ public class ChatInCommunicator extends APacketInCommunicator<ChatMessageParamet
 
         // Create a new chat message instance with the UNSIGNED signature constant
         // Since it's "injected" past verification, nobody is going to notice that
-        Object chatMessage = CTOR_PLAYER_CHAT_MESSAGE.newInstance(
+        Object chatMessage = CTOR_PLAYER_CHAT_MESSAGE.get().newInstance3(
           messageComponent,
-          M_MESSAGE_SIGNATURE__GET_UNSIGNED.invoke(null),
+          M_MESSAGE_SIGNATURE__GET_UNSIGNED.get().invoke0(null),
           Optional.empty()
         );
 
         // No filtering occurring here... raw=filtered
-        Object filteredText = CTOR_FILTERED_TEXT.newInstance(chatMessage, chatMessage);
+        Object filteredText = CTOR_FILTERED_TEXT.get().newInstance2(chatMessage, chatMessage);
 
         // Find the n-th static ResourceKey constant within the ChatMessageType of itself
         Object messageType = C_CHAT_MESSAGE_TYPE.locateField()
@@ -135,8 +139,8 @@ public class ChatInCommunicator extends APacketInCommunicator<ChatMessageParamet
 
         // Invoke the broadcast chat message method on the player list reference
         // using the prepared parameters from above
-        M_PLAYER_LIST__BROADCAST_CHAT_MESSAGE.invoke(
-          F_MINECRAFT_SERVER__PLAYER_LIST.get(O_MINECRAFT_SERVER),
+        M_PLAYER_LIST__BROADCAST_CHAT_MESSAGE.get().invoke3(
+          F_MINECRAFT_SERVER__PLAYER_LIST.get().get(O_MINECRAFT_SERVER),
           filteredText, getEntityPlayer(receiverPlayer), messageType
         );
       } catch (Exception e) {
@@ -163,6 +167,11 @@ public class ChatInCommunicator extends APacketInCommunicator<ChatMessageParamet
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  protected boolean supportsPersonalization() {
+    return false;
+  }
+
   @Override
   public @Nullable ChatMessageParameter parseIncoming(Object packet) {
     throw new UnsupportedOperationException();
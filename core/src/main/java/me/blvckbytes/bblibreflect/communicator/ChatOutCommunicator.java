@@ -4,8 +4,10 @@ import me.blvckbytes.bblibdi.AutoConstruct;
 import me.blvckbytes.bblibdi.AutoInject;
 import me.blvckbytes.bblibreflect.*;
 import me.blvckbytes.bblibreflect.communicator.parameter.ChatMessageParameter;
+import me.blvckbytes.bblibreflect.communicator.parameter.ChatMessageType;
 import me.blvckbytes.bblibreflect.handle.ConstructorHandle;
 import me.blvckbytes.bblibreflect.handle.EnumHandle;
+import me.blvckbytes.bblibreflect.handle.EnumTranslation;
 import me.blvckbytes.bblibreflect.handle.FieldHandle;
 import me.blvckbytes.bblibutil.logger.ILogger;
 import org.jetbrains.annotations.Nullable;
@@ -36,6 +38,7 @@ import java.util.UUID;
 public class ChatOutCommunicator extends APacketOutCommunicator<ChatMessageParameter> {
 
   private final EnumHandle E_CHAT_MESSAGE_TYPE;
+  private final @Nullable EnumTranslation<ChatMessageType> T_CHAT_MESSAGE_TYPE;
   private final FieldHandle F_PO_CHAT__CHAT_MESSAGE_TYPE, F_PO_CHAT__BASE_COMPONENT, F_PO_CHAT__UUID,
     F_CLB_CHAT__BASE_COMPONENT, F_CLB_CHAT__MESSAGE, F_CLB_CHAT__TYPE_ID;
   private final ConstructorHandle CTOR_CLB_CHAT_PACKET;
@@ -62,6 +65,7 @@ public class ChatOutCommunicator extends APacketOutCommunicator<ChatMessageParam
         .required();
 
       E_CHAT_MESSAGE_TYPE = null;
+      T_CHAT_MESSAGE_TYPE = null;
 
       F_PO_CHAT__CHAT_MESSAGE_TYPE = null;
       F_PO_CHAT__BASE_COMPONENT    = null;
@@ -70,6 +74,7 @@ public class ChatOutCommunicator extends APacketOutCommunicator<ChatMessageParam
 
     else {
       E_CHAT_MESSAGE_TYPE = helper.getClass(RClass.CHAT_MESSAGE_TYPE).asEnum();
+      T_CHAT_MESSAGE_TYPE = translateEnum(ChatMessageType.class, E_CHAT_MESSAGE_TYPE);
 
       F_PO_CHAT__CHAT_MESSAGE_TYPE = getPacketType().locateField().withType(E_CHAT_MESSAGE_TYPE).required();
       F_PO_CHAT__BASE_COMPONENT    = getPacketType().locateField().withType(C_BASE_COMPONENT).required();
@@ -89,12 +94,12 @@ public class ChatOutCommunicator extends APacketOutCommunicator<ChatMessageParam
 
     Object packet;
     if (CTOR_CLB_CHAT_PACKET != null)
-      packet = CTOR_CLB_CHAT_PACKET.newInstance(componentToBaseComponent(parameter.getMessage(), null), parameter.getType().ordinal());
+      packet = CTOR_CLB_CHAT_PACKET.newInstance2(componentToBaseComponent(parameter.getMessage(), null), parameter.getType().ordinal());
     else {
       packet = createPacket();
 
       if (F_PO_CHAT__CHAT_MESSAGE_TYPE != null) {
-        F_PO_CHAT__CHAT_MESSAGE_TYPE.set(packet, E_CHAT_MESSAGE_TYPE.getByCopy(parameter.getType()));
+        F_PO_CHAT__CHAT_MESSAGE_TYPE.set(packet, T_CHAT_MESSAGE_TYPE.translate(parameter.getType()));
 
         if (F_PO_CHAT__UUID != null && parameter.getSender() != null)
           F_PO_CHAT__UUID.set(packet, parameter.getSender());
@@ -102,7 +107,7 @@ public class ChatOutCommunicator extends APacketOutCommunicator<ChatMessageParam
         return packet;
       }
 
-      F_CLB_CHAT__TYPE_ID.set(packet, parameter.getType().ordinal());
+      F_CLB_CHAT__TYPE_ID.setInt(packet, parameter.getType().ordinal());
     }
 
     return packet;
@@ -110,20 +115,21 @@ public class ChatOutCommunicator extends APacketOutCommunicator<ChatMessageParam
 
   @Override
   protected void personalizeBasePacket(Object packet, ChatMessageParameter parameter, ICustomizableViewer viewer) throws Exception {
-    // FIXME: Cannot personalize the record... would need to create newly, make personalizeBasePacket return an Object.
-    if (CTOR_CLB_CHAT_PACKET != null)
-      return;
-
-    Object baseComponent = componentToBaseComponent(parameter.getMessage(), viewer);
+    // Records can only be personalized into a copy
+    if (personalizeBasePacketCopy(packet, parameter, viewer, false) != packet)
+      throw new UnsupportedOperationException();
+  }
 
+  @Override
+  protected Object personalizeBasePacketCopy(Object packet, ChatMessageParameter parameter, ICustomizableViewer viewer, boolean shared) throws Exception {
+    // Records (>= 1.19) are copied with the personalized component, older packets are modified in place
     if (F_PO_CHAT__BASE_COMPONENT != null)
-      F_PO_CHAT__BASE_COMPONENT.set(packet, baseComponent);
-    else {
-      if (F_CLB_CHAT__BASE_COMPONENT != null)
-        F_CLB_CHAT__BASE_COMPONENT.set(packet, baseComponent);
-      else
-        F_CLB_CHAT__MESSAGE.set(packet, parameter.getMessage().toPlainText());
-    }
+      return F_PO_CHAT__BASE_COMPONENT.with(packet, componentToBaseComponent(parameter.getMessage(), viewer));
+
+    if (F_CLB_CHAT__BASE_COMPONENT != null)
+      return F_CLB_CHAT__BASE_COMPONENT.with(packet, componentToBaseComponent(parameter.getMessage(), viewer));
+
+    return F_CLB_CHAT__MESSAGE.with(packet, parameter.getMessage().toPlainText());
   }
 
   @Override
@@ -5,11 +5,15 @@ import com.mojang.authlib.GameProfile;
 import me.blvckbytes.bblibdi.AutoConstruct;
 import me.blvckbytes.bblibdi.AutoInject;
 import me.blvckbytes.bblibreflect.*;
+import me.blvckbytes.bblibreflect.communicator.parameter.EnumGameMode;
+import me.blvckbytes.bblibreflect.communicator.parameter.PlayerInfoAction;
 import me.blvckbytes.bblibreflect.communicator.parameter.PlayerInfoParameter;
 import me.blvckbytes.bblibreflect.handle.ClassHandle;
 import me.blvckbytes.bblibreflect.handle.ConstructorHandle;
 import me.blvckbytes.bblibreflect.handle.EnumHandle;
+import me.blvckbytes.bblibreflect.handle.EnumTranslation;
 import me.blvckbytes.bblibreflect.handle.FieldHandle;
+import me.blvckbytes.bblibreflect.handle.ShallowCloner;
 import me.blvckbytes.bblibutil.logger.ILogger;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,6 +44,8 @@ import java.util.List;
 public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoParameter> {
 
   private final EnumHandle E_ENUM_PLAYER_INFO_ACTION, E_ENUM_GAME_MODE;
+  private final EnumTranslation<PlayerInfoAction> T_PLAYER_INFO_ACTION;
+  private final EnumTranslation<EnumGameMode> T_GAME_MODE;
 
   private final FieldHandle F_PO_PLAYER_INFO__ENUM, F_PO_PLAYER_INFO__LIST, F_PLAYER_INFO_DATA__COMPONENT;
 
@@ -59,6 +65,9 @@ public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoPar
     E_ENUM_PLAYER_INFO_ACTION = helper.getClass(RClass.ENUM_PLAYER_INFO_ACTION).asEnum();
     E_ENUM_GAME_MODE          = helper.getClass(RClass.ENUM_GAME_MODE).asEnum();
 
+    T_PLAYER_INFO_ACTION = translateEnum(PlayerInfoAction.class, E_ENUM_PLAYER_INFO_ACTION);
+    T_GAME_MODE          = translateEnum(EnumGameMode.class, E_ENUM_GAME_MODE);
+
     F_PO_PLAYER_INFO__ENUM = getPacketType().locateField().withType(E_ENUM_PLAYER_INFO_ACTION).required();
     F_PO_PLAYER_INFO__LIST = getPacketType().locateField().withType(List.class).withGeneric(C_PLAYER_INFO_DATA).required();
     F_PLAYER_INFO_DATA__COMPONENT = C_PLAYER_INFO_DATA.locateField().withType(C_BASE_COMPONENT).required();
@@ -81,7 +90,7 @@ public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoPar
   protected Object createBasePacket(PlayerInfoParameter parameter) throws Exception {
     // Create a new packet instance and set the action, it will be the same for all viewers
     Object packet = createPacket();
-    F_PO_PLAYER_INFO__ENUM.set(packet, E_ENUM_PLAYER_INFO_ACTION.getByCopy(parameter.getAction()));
+    F_PO_PLAYER_INFO__ENUM.set(packet, T_PLAYER_INFO_ACTION.translate(parameter.getAction()));
 
     // Create a new list of PlayerInfoData and set it's ref, it will also remain constant
     List<Object> playerInfoList = new ArrayList<>();
@@ -102,29 +111,36 @@ public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoPar
 
   @Override
   protected void personalizeBasePacket(Object packet, PlayerInfoParameter parameter, ICustomizableViewer viewer) throws Exception {
-    List<?> playerInfoList = (List<?>) F_PO_PLAYER_INFO__LIST.get(packet);
+    // Entries which are records can only be personalized into a copy
+    if (personalizeBasePacketCopy(packet, parameter, viewer, false) != packet)
+      throw new UnsupportedOperationException();
+  }
 
-    // Just a single entry
-    if (parameter.getEntry() != null) {
-      PlayerInfoParameter.Entry entry = parameter.getEntry();
-      Object playerInfo = playerInfoList.get(0);
+  @Override
+  protected Object personalizeBasePacketCopy(Object packet, PlayerInfoParameter parameter, ICustomizableViewer viewer, boolean shared) throws Exception {
+    List<?> basePlayerInfoList = (List<?>) F_PO_PLAYER_INFO__LIST.get(packet);
+    List<Object> playerInfoList = new ArrayList<>(basePlayerInfoList.size());
+    boolean inPlace = true;
 
-      // Personalize the current entry's component
-      JsonObject json = entry.getName() == null ? null : entry.getName().toJson(viewer.cannotRenderHexColors());
-      F_PLAYER_INFO_DATA__COMPONENT.set(playerInfo, M_CHAT_SERIALIZER__FROM_JSON.invoke(null, json));
-    }
+    // Either just a single entry or one entry per player info data object
+    int size = parameter.getEntry() != null ? 1 : (parameter.getEntries() == null ? 0 : parameter.getEntries().size());
 
-    else if (parameter.getEntries() != null) {
-      // Personalize all player info entries for the current viewer
-      for (int i = 0; i < parameter.getEntries().size(); i++) {
-        PlayerInfoParameter.Entry entry = parameter.getEntries().get(i);
-        Object playerInfo = playerInfoList.get(i);
-
-        // Personalize the current entry's component
-        JsonObject json = entry.getName() == null ? null : entry.getName().toJson(viewer.cannotRenderHexColors());
-        F_PLAYER_INFO_DATA__COMPONENT.set(playerInfo, M_CHAT_SERIALIZER__FROM_JSON.invoke(null, json));
-      }
+    for (int i = 0; i < size; i++) {
+      PlayerInfoParameter.Entry entry = parameter.getEntry() != null ? parameter.getEntry() : parameter.getEntries().get(i);
+      Object basePlayerInfo = basePlayerInfoList.get(i);
+
+      // Entries of a shallow copy are shared with the base packet, personalize copies of them
+      Object playerInfo = personalizePlayerInfoData(shared ? ShallowCloner.copyOf(basePlayerInfo) : basePlayerInfo, entry, viewer);
+
+      inPlace &= playerInfo == basePlayerInfo;
+      playerInfoList.add(playerInfo);
     }
+
+    // All entries have been personalized in place, which the list already holds
+    if (inPlace)
+      return packet;
+
+    return F_PO_PLAYER_INFO__LIST.with(packet, playerInfoList);
   }
 
   @Override
@@ -132,6 +148,18 @@ public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoPar
     return PlayerInfoParameter.class;
   }
 
+  /**
+   * Personalize a player info data instance for a specific viewer
+   * @param playerInfo Instance to personalize
+   * @param entry Entry the instance has been created from
+   * @param viewer Viewer to personalize for
+   * @return Personalized instance, either the input itself or a personalized copy of it
+   */
+  private Object personalizePlayerInfoData(Object playerInfo, PlayerInfoParameter.Entry entry, ICustomizableViewer viewer) throws Exception {
+    JsonObject json = entry.getName() == null ? null : entry.getName().toJson(viewer.cannotRenderHexColors());
+    return F_PLAYER_INFO_DATA__COMPONENT.with(playerInfo, B_CHAT_SERIALIZER__FROM_JSON.apply(json));
+  }
+
   /**
    * Create a new base instance of the player info data by setting all
    * of it's properties except the personalized component (is set to null).
@@ -144,7 +172,7 @@ public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoPar
       return CT_PLAYER_INFO_DATA.newInstance(
         entry.resolveGameProfile(M_CRAFT_PLAYER__GET_PROFILE),
         entry.resolveLatency(interceptor),
-        E_ENUM_GAME_MODE.getByCopy(entry.resolveGameMode()),
+        T_GAME_MODE.translate(entry.resolveGameMode()),
         null, null
       );
     }
@@ -152,7 +180,7 @@ public class PlayerInfoCommunicator extends APacketOutCommunicator<PlayerInfoPar
     return CT_PLAYER_INFO_DATA.newInstance(
       entry.resolveGameProfile(M_CRAFT_PLAYER__GET_PROFILE),
       entry.resolveLatency(interceptor),
-      E_ENUM_GAME_MODE.getByCopy(entry.resolveGameMode()),
+      T_GAME_MODE.translate(entry.resolveGameMode()),
       null
     );
   }
@@ -13,6 +13,8 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.ObjIntConsumer;
+
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 08/14/2022
@@ -36,9 +38,10 @@ import org.jetbrains.annotations.Nullable;
 @AutoConstruct
 public class SetSlotCommunicator extends APacketOutCommunicator<SetSlotParameter> {
 
-  private final FieldHandle F_PO_SS__WINDOW_ID, F_PO_SS__STATE_ID_OR_SLOT, F_PO_SS__ITEM;
-  private final @Nullable FieldHandle F_POSS__SLOT;
+  private final FieldHandle F_PO_SS__ITEM;
+  private final ObjIntConsumer<Object> B_PO_SS__WINDOW_ID, B_PO_SS__STATE_ID_OR_SLOT, B_PO_SS__SLOT;
 
+  @SuppressWarnings("unchecked")
   public SetSlotCommunicator(
     @AutoInject ILogger logger,
     @AutoInject IReflectionHelper helper,
@@ -46,10 +49,21 @@ public class SetSlotCommunicator extends APacketOutCommunicator<SetSlotParameter
   ) throws Exception {
     super(logger, helper, interceptor, true, helper.getClass(RClass.PACKET_O_SET_SLOT));
 
-    F_PO_SS__WINDOW_ID        = getPacketType().locateField().withType(int.class).required();
-    F_PO_SS__STATE_ID_OR_SLOT = getPacketType().locateField().withType(int.class).withSkip(1).required();
-    F_POSS__SLOT              = getPacketType().locateField().withType(int.class).withSkip(2).optional();
-    F_PO_SS__ITEM             = getPacketType().locateField().withType(C_ITEM_STACK).required();
+    FieldHandle[] fields = getPacketType().locateMany(
+      getPacketType().locateField().withType(int.class),
+      getPacketType().locateField().withType(int.class).withSkip(1),
+      getPacketType().locateField().withType(C_ITEM_STACK),
+
+      // Only present in newer versions, where the state ID precedes the slot
+      getPacketType().locateField().withType(int.class).withSkip(2).withOptional(true)
+    );
+
+    F_PO_SS__ITEM             = fields[2];
+    B_PO_SS__WINDOW_ID        = fields[0].bindSetter(ObjIntConsumer.class);
+    B_PO_SS__STATE_ID_OR_SLOT = fields[1].bindSetter(ObjIntConsumer.class);
+
+    // If there is no third slot field, the state field becomes the slot field
+    B_PO_SS__SLOT = (fields[3] == null ? fields[1] : fields[3]).bindSetter(ObjIntConsumer.class);
   }
 
   @Override
@@ -57,10 +71,8 @@ public class SetSlotCommunicator extends APacketOutCommunicator<SetSlotParameter
     Object packet = createPacket();
 
     // FIXME: Is a state of zero really okay?
-    F_PO_SS__STATE_ID_OR_SLOT.set(packet, 0);
-
-    // If there is no third slot field, the state field becomes the slot field
-    (F_POSS__SLOT == null ? F_PO_SS__STATE_ID_OR_SLOT : F_POSS__SLOT).set(packet, parameter.getSlot());
+    B_PO_SS__STATE_ID_OR_SLOT.accept(packet, 0);
+    B_PO_SS__SLOT.accept(packet, parameter.getSlot());
 
     // No personalized item, set ahead of time for all viewers
     if (parameter.getPersonalizedItem() == null)
@@ -72,7 +84,7 @@ public class SetSlotCommunicator extends APacketOutCommunicator<SetSlotParameter
   @Override
   protected void personalizeBasePacket(Object packet, SetSlotParameter parameter, ICustomizableViewer viewer) throws Exception {
     // Set personal window ID
-    F_PO_SS__WINDOW_ID.set(packet, parameter.isTop() ? viewer.getCurrentWindowId() : -2);
+    B_PO_SS__WINDOW_ID.accept(packet, parameter.isTop() ? viewer.getCurrentWindowId() : -2);
 
     // Set personalized item, if applicable
     if (parameter.getPersonalizedItem() != null)
@@ -95,7 +107,7 @@ public class SetSlotCommunicator extends APacketOutCommunicator<SetSlotParameter
       item = new ItemStack(Material.AIR);
 
     // Set the item as an NMS copy
-    Object craftStack = M_CRAFT_ITEM_STACK__AS_NMS_COPY.invoke(null, item);
+    Object craftStack = B_CRAFT_ITEM_STACK__AS_NMS_COPY.apply(item);
     F_PO_SS__ITEM.set(packet, craftStack);
   }
 
@@ -57,20 +57,30 @@ public class TitleSubtitleCommunicator extends ATitleBaseCommunicator<TitleSubti
   @Override
   protected Object createBasePacket(TitleSubtitleParameter parameter) throws Exception {
     if (CTOR_CLB_SUBTITLE != null)
-      return CTOR_CLB_SUBTITLE.newInstance(componentToBaseComponent(parameter.getSubtitle(), null));
+      return CTOR_CLB_SUBTITLE.newInstance1(componentToBaseComponent(parameter.getSubtitle(), null));
 
     return super.createPacket();
   }
 
   @Override
   protected void personalizeBasePacket(Object packet, TitleSubtitleParameter parameter, ICustomizableViewer viewer) throws Exception {
+    // Records can only be personalized into a copy
+    if (personalizeBasePacketCopy(packet, parameter, viewer, false) != packet)
+      throw new UnsupportedOperationException();
+  }
+
+  @Override
+  protected Object personalizeBasePacketCopy(Object packet, TitleSubtitleParameter parameter, ICustomizableViewer viewer, boolean shared) throws Exception {
     Object subtitleComponent = componentToBaseComponent(parameter.getSubtitle(), viewer);
 
     if (F_PO_SUBTITLE__BASE_COMPONENT != null)
-      F_PO_SUBTITLE__BASE_COMPONENT.set(packet, subtitleComponent);
+      return F_PO_SUBTITLE__BASE_COMPONENT.with(packet, subtitleComponent);
+
+    // Records are copied with the personalized component
+    if (F_CLB_SUBTITLE__BASE_COMPONENT != null)
+      return F_CLB_SUBTITLE__BASE_COMPONENT.with(packet, subtitleComponent);
 
-    else if (F_CLB_SUBTITLE__BASE_COMPONENT != null)
-      F_CLB_SUBTITLE__BASE_COMPONENT.set(packet, subtitleComponent);
+    return packet;
   }
 
   @Override
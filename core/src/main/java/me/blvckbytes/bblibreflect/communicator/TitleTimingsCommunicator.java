@@ -9,6 +9,7 @@ import me.blvckbytes.bblibreflect.RClass;
 import me.blvckbytes.bblibreflect.communicator.parameter.TitleTimingsParameter;
 import me.blvckbytes.bblibreflect.handle.ConstructorHandle;
 import me.blvckbytes.bblibreflect.handle.FieldHandle;
+import me.blvckbytes.bblibreflect.handle.LazyHandle;
 import me.blvckbytes.bblibutil.logger.ILogger;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,10 +35,9 @@ import org.jetbrains.annotations.Nullable;
 @AutoConstruct
 public class TitleTimingsCommunicator extends ATitleBaseCommunicator<TitleTimingsParameter> {
 
-  private final FieldHandle F_CLB_ANIMATION__FADE_IN, F_CLB_ANIMATION__DURATION,
-    F_CLB_ANIMATION__FADE_OUT, F_PO_TITLE__FADE_IN, F_PO_TITLE__DURATION, F_PO_TITLE__FADE_OUT;
-
-  private final ConstructorHandle CTOR_CLB_ANIMATION;
+  // Fade in, duration and fade out fields in sequence
+  private final LazyHandle<FieldHandle[]> F_TITLE__TIMINGS;
+  private final @Nullable LazyHandle<ConstructorHandle> CTOR_CLB_ANIMATION;
 
   public TitleTimingsCommunicator(
     @AutoInject ILogger logger,
@@ -46,47 +46,29 @@ public class TitleTimingsCommunicator extends ATitleBaseCommunicator<TitleTiming
   ) throws Exception {
     super(logger, helper, interceptor, RClass.CLIENTBOUND_TITLES_ANIMATION);
 
-    if (isNewer) {
-      F_CLB_ANIMATION__FADE_IN  = getPacketType().locateField().withType(int.class).required();
-      F_CLB_ANIMATION__DURATION = getPacketType().locateField().withType(int.class).withSkip(1).required();
-      F_CLB_ANIMATION__FADE_OUT = getPacketType().locateField().withType(int.class).withSkip(2).required();
-      CTOR_CLB_ANIMATION = getPacketType().locateConstructor().withParameters(int.class, int.class, int.class).optional();
-
-      F_PO_TITLE__FADE_IN  = null;
-      F_PO_TITLE__DURATION = null;
-      F_PO_TITLE__FADE_OUT = null;
-    }
-
-    else {
-      F_PO_TITLE__FADE_IN  = getPacketType().locateField().withType(int.class).required();
-      F_PO_TITLE__DURATION = getPacketType().locateField().withType(int.class).required();
-      F_PO_TITLE__FADE_OUT = getPacketType().locateField().withType(int.class).required();
-
-      CTOR_CLB_ANIMATION = null;
-      F_CLB_ANIMATION__FADE_IN  = null;
-      F_CLB_ANIMATION__DURATION = null;
-      F_CLB_ANIMATION__FADE_OUT = null;
-    }
+    // Timings are rarely sent, resolve on first use
+    F_TITLE__TIMINGS = new LazyHandle<>(() -> getPacketType().locateMany(
+      getPacketType().locateField().withType(int.class),
+      getPacketType().locateField().withType(int.class).withSkip(1),
+      getPacketType().locateField().withType(int.class).withSkip(2)
+    ));
+
+    CTOR_CLB_ANIMATION = isNewer ? getPacketType().locateConstructor().withParameters(int.class, int.class, int.class).lazyOptional() : null;
   }
 
   @Override
   protected Object createBasePacket(TitleTimingsParameter parameter) throws Exception {
-    if (CTOR_CLB_ANIMATION != null)
-      return CTOR_CLB_ANIMATION.newInstance(parameter.getFadeIn(), parameter.getDuration(), parameter.getFadeOut());
+    ConstructorHandle constructor = CTOR_CLB_ANIMATION == null ? null : CTOR_CLB_ANIMATION.get();
 
-    Object packet = super.createBasePacket(parameter);
+    if (constructor != null)
+      return constructor.newInstance3(parameter.getFadeIn(), parameter.getDuration(), parameter.getFadeOut());
 
-    if (isNewer) {
-      F_CLB_ANIMATION__FADE_IN.set(packet, parameter.getFadeIn());
-      F_CLB_ANIMATION__DURATION.set(packet, parameter.getDuration());
-      F_CLB_ANIMATION__FADE_OUT.set(packet, parameter.getFadeOut());
-    }
+    Object packet = super.createBasePacket(parameter);
+    FieldHandle[] timings = F_TITLE__TIMINGS.get();
 
-    else {
-      F_PO_TITLE__FADE_IN.set(packet, parameter.getFadeIn());
-      F_PO_TITLE__DURATION.set(packet, parameter.getDuration());
-      F_PO_TITLE__FADE_OUT.set(packet, parameter.getFadeOut());
-    }
+    timings[0].setInt(packet, parameter.getFadeIn());
+    timings[1].setInt(packet, parameter.getDuration());
+    timings[2].setInt(packet, parameter.getFadeOut());
 
     return packet;
   }
@@ -96,6 +78,11 @@ public class TitleTimingsCommunicator extends ATitleBaseCommunicator<TitleTiming
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  protected boolean supportsPersonalization() {
+    return false;
+  }
+
   @Override
   public Class<TitleTimingsParameter> getParameterType() {
     return TitleTimingsParameter.class;
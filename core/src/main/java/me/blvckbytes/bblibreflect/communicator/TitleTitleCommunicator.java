@@ -60,24 +60,30 @@ public class TitleTitleCommunicator extends ATitleBaseCommunicator<TitleTitlePar
   @Override
   protected Object createBasePacket(TitleTitleParameter parameter) throws Exception {
     if (CTOR_CLB_TITLE != null)
-      return CTOR_CLB_TITLE.newInstance(componentToBaseComponent(parameter.getTitle(), null));
+      return CTOR_CLB_TITLE.newInstance1(componentToBaseComponent(parameter.getTitle(), null));
 
     return super.createPacket();
   }
 
   @Override
   protected void personalizeBasePacket(Object packet, TitleTitleParameter parameter, ICustomizableViewer viewer) throws Exception {
-    // FIXME: Cannot personalize the record... would need to create newly, make personalizeBasePacket return an Object.
-    if (CTOR_CLB_TITLE != null)
-      return;
+    // Records can only be personalized into a copy
+    if (personalizeBasePacketCopy(packet, parameter, viewer, false) != packet)
+      throw new UnsupportedOperationException();
+  }
 
+  @Override
+  protected Object personalizeBasePacketCopy(Object packet, TitleTitleParameter parameter, ICustomizableViewer viewer, boolean shared) throws Exception {
     Object titleComponent = componentToBaseComponent(parameter.getTitle(), viewer);
 
     if (F_PO_TITLE__BASE_COMPONENT != null)
-      F_PO_TITLE__BASE_COMPONENT.set(packet, titleComponent);
+      return F_PO_TITLE__BASE_COMPONENT.with(packet, titleComponent);
+
+    // Records are copied with the personalized component
+    if (F_CLB_TITLE__BASE_COMPONENT != null)
+      return F_CLB_TITLE__BASE_COMPONENT.with(packet, titleComponent);
 
-    else if (F_CLB_TITLE__BASE_COMPONENT != null)
-      F_CLB_TITLE__BASE_COMPONENT.set(packet, titleComponent);
+    return packet;
   }
 
   @Override
@@ -167,7 +167,7 @@ public class PlayerInfoParameter implements ICommunicatorParameter {
         return profile;
 
       if (player != null)
-        return (GameProfile) M_CRAFT_PLAYER__GET_PROFILE.invoke(player);
+        return (GameProfile) M_CRAFT_PLAYER__GET_PROFILE.invoke0(player);
 
       throw new IllegalStateException("Cannot resolve game profile due to a lack of parameters.");
     }
@@ -214,7 +214,7 @@ public class PermissionListener implements Listener, IAutoConstructed {
     // Create a new proxied map
     return Proxy.newProxyInstance(
       permissions.getClass().getClassLoader(),
-      new Class[]{ Map.class },
+      new Class<?>[]{ Map.class },
 
       // Create an anonymous implementation here, since it's pretty basic and too specific
       new InvocationHandler() {
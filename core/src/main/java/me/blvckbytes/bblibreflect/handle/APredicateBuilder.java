@@ -0,0 +1,184 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/14/2022
+
+  The base of all predicate builder implementations.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public abstract class APredicateBuilder<T> {
+
+  // Marks predicates which are known to not yield any result
+  private static final Object MISSING = new Object();
+
+  // Marks predicates which have neither been memoized nor cached and thus need to be searched for
+  static final Object UNRESOLVED = new Object();
+
+  protected final ClassHandle targetClass;
+
+  /**
+   * Create a new predicate builder on a class handle
+   * @param targetClass Class to search through
+   */
+  protected APredicateBuilder(ClassHandle targetClass) {
+    this.targetClass = targetClass;
+  }
+
+  /**
+   * Get the predicate's result and return null if it couldn't be located. Results,
+   * as well as misses, are memoized on the target class by the builder's signature,
+   * so repeated lookups of the same predicate cost a single map access.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable T optional() {
+    List<Object> signature = getSignature();
+    Object resolution = resolveKnown(signature);
+
+    if (resolution != UNRESOLVED)
+      return (T) resolution;
+
+    // Not cached or stale, search through the class
+    return remember(signature, find());
+  }
+
+  /**
+   * Resolve the predicate without searching, by either a memoized result or by binding
+   * the member which a previous boot resolved to
+   * @param signature Signature of this predicate
+   * @return Result, null if known to be missing, {@link #UNRESOLVED} if it has to be searched for
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable Object resolveKnown(List<Object> signature) {
+    // Already resolved this exact predicate before
+    Object resolution = targetClass.getResolutions().get(signature);
+    if (resolution != null) {
+      if (resolution == MISSING)
+        return null;
+
+      // Invocations are attributed to lookup sites, so record this one as well
+      HandleProfiler.addLookupSite(getProbe((T) resolution));
+      return resolution;
+    }
+
+    ResolutionCache cache = ResolutionCache.getActive();
+
+    // Try to bind the member a previous boot resolved to
+    String member = cache == null ? null : cache.get(targetClass, signature);
+    T result = member == null ? null : bind(member);
+
+    if (result == null)
+      return UNRESOLVED;
+
+    targetClass.getResolutions().put(signature, result);
+    return result;
+  }
+
+  /**
+   * Memoize and cache the result of searching for this predicate
+   * @param signature Signature of this predicate
+   * @param result Result of the search, null if there was none
+   * @return The passed result
+   */
+  @Nullable T remember(List<Object> signature, @Nullable T result) {
+    ResolutionCache cache = ResolutionCache.getActive();
+
+    if (cache != null)
+      cache.put(targetClass, signature, result == null ? null : describe(result));
+
+    targetClass.getResolutions().put(signature, result == null ? MISSING : result);
+    return result;
+  }
+
+  /**
+   * Get the predicate's result and require that it's not null
+   * @throws Exception Not found exception if the result could not be located
+   */
+  public T required() throws Exception {
+    T result = optional();
+
+    if (result == null)
+      throw createNotFoundException();
+
+    return result;
+  }
+
+  /**
+   * Defer requiring the predicate's result until the handle is first used
+   * @throws Exception Not found exception, only thrown when resolving eagerly
+   */
+  public LazyHandle<T> lazy() throws Exception {
+    return new LazyHandle<>(this::required);
+  }
+
+  /**
+   * Defer getting the predicate's result until the handle is first used,
+   * where the handle will yield null if the result couldn't be located
+   * @throws Exception Resolution errors, only thrown when resolving eagerly
+   */
+  public LazyHandle<T> lazyOptional() throws Exception {
+    return new LazyHandle<>(this::optional);
+  }
+
+  /**
+   * Get the class this builder searches through
+   */
+  ClassHandle getTargetClass() {
+    return targetClass;
+  }
+
+  /**
+   * Find the predicate's result by searching through the target class
+   * @return Result, null if it couldn't be located
+   */
+  protected abstract @Nullable T find();
+
+  /**
+   * Bind a member which has been resolved by a previous boot, if it still satisfies the predicate
+   * @param member Description of the member
+   * @return Result, null if the member doesn't exist anymore or doesn't match
+   */
+  protected abstract @Nullable T bind(String member);
+
+  /**
+   * Describe a result in order for it to be bound again later on
+   * @param result Result to describe
+   * @return Description of the member
+   */
+  protected abstract String describe(T result);
+
+  /**
+   * Get the profiling probe of a result
+   * @param result Result to get the probe of
+   * @return Probe, null if profiling is disabled
+   */
+  protected abstract @Nullable HandleProfiler.Probe getProbe(T result);
+
+  /**
+   * Create the exception which signals that the predicate's result couldn't be located
+   */
+  protected abstract Exception createNotFoundException();
+
+  /**
+   * Get the signature of this predicate, which consists of the builder's
+   * type as well as of all of it's parameters and uniquely identifies its result
+   */
+  protected abstract List<Object> getSignature();
+
+}
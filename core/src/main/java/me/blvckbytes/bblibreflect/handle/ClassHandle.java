@@ -0,0 +1,298 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import lombok.AllArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/14/2022
+
+  Represents a reflection handle of a class which directly offers predicate
+  builders to query members expressively.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@AllArgsConstructor
+public class ClassHandle {
+
+  // Caching manual encapsulations using the of() constructor here
+  private static final TrackedClassValue<ClassHandle> encapsulations = new TrackedClassValue<>(ClassHandle::new);
+
+  // Caching enumeration constants
+  private static final TrackedClassValue<EnumHandle> enumerations = new TrackedClassValue<>(EnumHandle::new);
+
+  protected final Class<?> c;
+
+  // Memoized predicate builder results, keyed by their signatures
+  private final Map<List<Object>, Object> resolutions = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new class handle by locating the target class within
+   * the given target class by dispatching the predicate immediately.
+   * @param target Target class to search in
+   * @param predicate Predicate which chooses the matching class
+   * @throws ClassNotFoundException Thrown if the predicate didn't yield any results
+   */
+  public ClassHandle(Class<?> target, IClassPredicate predicate) throws ClassNotFoundException {
+    this(requireLocated(locate(target, MemberIndex::getClasses, predicate)));
+  }
+
+  /**
+   * Get the encapsulated class directly
+   */
+  public Class<?> get() {
+    return this.c;
+  }
+
+  /**
+   * Get the memoized predicate builder results of this class
+   */
+  Map<List<Object>, Object> getResolutions() {
+    return resolutions;
+  }
+
+  /**
+   * Checks whether an object is an instance of this class
+   * @param o Object to check
+   */
+  public boolean isInstance(Object o) {
+    return this.c.isInstance(o);
+  }
+
+  /**
+   * Interpret this class as an enumeration and get a handle to it
+   * @throws IllegalStateException Thrown if this class is not an enumeration
+   */
+  public EnumHandle asEnum() throws IllegalStateException {
+    // Use cached value or create a new enum handle on this class
+    return enumerations.get(c);
+  }
+
+  /**
+   * Create a new FieldHandle builder which will query this class
+   */
+  public FieldPredicateBuilder locateField() {
+    return new FieldPredicateBuilder(this);
+  }
+
+  /**
+   * Create a new MethodHandle builder which will query this class
+   */
+  public MethodPredicateBuilder locateMethod() {
+    return new MethodPredicateBuilder(this);
+  }
+
+  /**
+   * Create a new ConstructorHandle builder which will query this class
+   */
+  public ConstructorPredicateBuilder locateConstructor() {
+    return new ConstructorPredicateBuilder(this);
+  }
+
+  /**
+   * Locate multiple fields of this class, where memoized and cached results are taken just
+   * like when resolving each builder on it's own and all others are searched for in a single
+   * pass over the class's members, every builder keeping its own skip counter
+   * @param builders Field predicate builders created on this class
+   * @return Field handles in the order of their builders, null for missing optional fields
+   * @throws NoSuchFieldException Thrown if any of the non-optional predicates didn't yield a result
+   */
+  public @Nullable FieldHandle[] locateMany(FieldPredicateBuilder... builders) throws NoSuchFieldException {
+    FieldHandle[] handles = new FieldHandle[builders.length];
+    List<List<Object>> signatures = new ArrayList<>(builders.length);
+    IFieldPredicate[] predicates = new IFieldPredicate[builders.length];
+    boolean walkHierarchy = false;
+    int remaining = 0;
+
+    for (int i = 0; i < builders.length; i++) {
+      if (builders[i].getTargetClass() != this)
+        throw new IllegalArgumentException("All builders need to target " + c);
+
+      List<Object> signature = builders[i].getSignature();
+      Object resolution = builders[i].resolveKnown(signature);
+      signatures.add(signature);
+
+      if (resolution != APredicateBuilder.UNRESOLVED) {
+        handles[i] = (FieldHandle) resolution;
+        continue;
+      }
+
+      // Needs to be searched for
+      predicates[i] = builders[i].buildPredicate();
+      walkHierarchy |= builders[i].isAllowSuperclass();
+      remaining++;
+    }
+
+    Field[] results = new Field[builders.length];
+    int[] counters = new int[builders.length];
+    int unsatisfied = remaining;
+
+    // Walk up the hierarchy chain until all builders are satisfied
+    Class<?> curr = c;
+    while (unsatisfied > 0 && curr != null && curr != Object.class) {
+      boolean isSuperclass = curr != c;
+
+      // Offer every field of the current class to all unsatisfied builders
+      for (Field f : MemberIndex.of(curr).getFields()) {
+        for (int i = 0; i < builders.length; i++) {
+
+          // Resolved without searching, already satisfied or not allowed to look at superclasses
+          if (predicates[i] == null || results[i] != null || (isSuperclass && !builders[i].isAllowSuperclass()))
+            continue;
+
+          Boolean result = predicates[i].matches(f, counters[i]);
+
+          // Null means that it would have matched, but the
+          // skip counter has not yet elapsed
+          if (result == null) {
+            counters[i]++;
+            continue;
+          }
+
+          // Predicate match, take the field
+          if (result) {
+            results[i] = f;
+            unsatisfied--;
+          }
+        }
+      }
+
+      if (!walkHierarchy)
+        break;
+
+      curr = curr.getSuperclass();
+    }
+
+    for (int i = 0; i < builders.length; i++) {
+      // Memoize and cache the searched results, misses included
+      if (predicates[i] != null)
+        handles[i] = builders[i].remember(signatures.get(i), results[i] == null ? null : new FieldHandle(results[i]));
+
+      // The predicate matched on none of them
+      if (handles[i] == null && !builders[i].isOptional())
+        throw new NoSuchFieldException("Could not satisfy the field predicate at index " + i + ".");
+    }
+
+    return handles;
+  }
+
+  /**
+   * Create a new ClassHandle builder which will query this class
+   */
+  public ClassPredicateBuilder locateClass() {
+    return new ClassPredicateBuilder(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof Class<?>))
+      return false;
+
+    return c.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return c.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return c.toString();
+  }
+
+  /**
+   * Require a located class to be present
+   * @param c Located class, null if there was no result
+   * @return Located class
+   * @throws ClassNotFoundException Thrown if the class couldn't be located
+   */
+  private static Class<?> requireLocated(@Nullable Class<?> c) throws ClassNotFoundException {
+    if (c == null)
+      throw new ClassNotFoundException("Could not satisfy the class predicate.");
+
+    return c;
+  }
+
+  /**
+   * Locate an inner class within the given target class by dispatching the predicate
+   * on the candidates the member index yields for each class of the hierarchy
+   * @param target Target class to search in
+   * @param candidates Selects the candidates to test from a class's member index
+   * @param predicate Predicate which chooses the matching class
+   * @return Located class, null if the predicate didn't yield any results
+   */
+  static @Nullable Class<?> locate(
+    Class<?> target,
+    Function<MemberIndex, List<Class<?>>> candidates,
+    IClassPredicate predicate
+  ) {
+    if (target == null)
+      throw new IllegalStateException("Target has to be present.");
+
+    int counter = 0;
+
+    // Walk up the hierarchy chain
+    Class<?> curr = target;
+    while (curr != null && curr != Object.class) {
+
+      // Loop all candidate inner classes of the current class
+      for (Class<?> c : candidates.apply(MemberIndex.of(curr))) {
+        Boolean result = predicate.matches(c, counter);
+
+        // Null means that it would have matched, but the
+        // skip counter has not yet elapsed
+        if (result == null) {
+          counter++;
+          continue;
+        }
+
+        // Predicate match, take the class
+        if (result)
+          return c;
+      }
+
+      curr = curr.getSuperclass();
+    }
+
+    // The predicate matched on none of them
+    return null;
+  }
+
+  /**
+   * Create a new class handle on top of a vanilla class
+   * @param c Target class
+   */
+  public static ClassHandle of(Class<?> c) {
+    // Return existing instance or create a new instance
+    return encapsulations.get(c);
+  }
+
+  /**
+   * Remove all cached class and enum handles as well as member indices, which
+   * has to be called before the plugin is disabled, to not leak it's class loader
+   */
+  public static void clearCaches() {
+    encapsulations.clear();
+    enumerations.clear();
+    MemberIndex.clearCaches();
+    ShallowCloner.clearCaches();
+    PacketSchema.clearCaches();
+  }
+}
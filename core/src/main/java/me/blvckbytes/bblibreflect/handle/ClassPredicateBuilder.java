@@ -3,6 +3,8 @@ package me.blvckbytes.bblibreflect.handle;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -26,7 +28,6 @@ import java.lang.reflect.Modifier;
 */
 public class ClassPredicateBuilder extends APredicateBuilder<ClassHandle> {
 
-  private final ClassHandle targetClass;
   private @Nullable Boolean isPublic;
   private @Nullable Boolean isStatic;
   private int skip;
@@ -36,7 +37,7 @@ public class ClassPredicateBuilder extends APredicateBuilder<ClassHandle> {
    * @param targetClass Class to search through
    */
   public ClassPredicateBuilder(ClassHandle targetClass) {
-    this.targetClass = targetClass;
+    super(targetClass);
   }
 
   ////////////////////////////////// Modifiers //////////////////////////////////
@@ -73,23 +74,16 @@ public class ClassPredicateBuilder extends APredicateBuilder<ClassHandle> {
   ////////////////////////////////// Retrieval //////////////////////////////////
 
   @Override
-  public @Nullable ClassHandle optional() {
-    try {
-      return required();
-    }
-
-    catch (IncompletePredicateBuilderException e) {
-      throw e;
-    }
-
-    catch (Exception e) {
-      return null;
-    }
+  protected @Nullable ClassHandle find() {
+    Class<?> located = ClassHandle.locate(targetClass.get(), this::selectCandidates, buildPredicate());
+    return located == null ? null : new ClassHandle(located);
   }
 
-  @Override
-  public ClassHandle required() throws Exception {
-    return new ClassHandle(targetClass.get(), (c, mc) -> {
+  /**
+   * Build the predicate which matches classes against all parameters of this builder
+   */
+  private IClassPredicate buildPredicate() {
+    return (c, mc) -> {
 
       // Static modifier mismatch
       if (isStatic != null && Modifier.isStatic(c.getModifiers()) != isStatic)
@@ -104,6 +98,50 @@ public class ClassPredicateBuilder extends APredicateBuilder<ClassHandle> {
         return null;
 
       return true;
-    });
+    };
+  }
+
+  @Override
+  protected ClassNotFoundException createNotFoundException() {
+    return new ClassNotFoundException("Could not satisfy the class predicate.");
+  }
+
+  @Override
+  protected @Nullable ClassHandle bind(String member) {
+    Class<?> c = ResolutionCache.findClass(targetClass.get(), member);
+
+    // The predicate has to match at the skip position without counting up
+    if (c == null || !Boolean.TRUE.equals(buildPredicate().matches(c, skip)))
+      return null;
+
+    return new ClassHandle(c);
+  }
+
+  @Override
+  protected String describe(ClassHandle result) {
+    return ResolutionCache.describe(result.get());
+  }
+
+  @Override
+  protected @Nullable HandleProfiler.Probe getProbe(ClassHandle result) {
+    // Class handles are not invoked, thus not profiled
+    return null;
+  }
+
+  @Override
+  protected List<Object> getSignature() {
+    return Arrays.asList(getClass(), isPublic, isStatic, skip);
+  }
+
+  /**
+   * Select the smallest known bucket of candidates from a member index
+   * @param index Member index of the currently searched class
+   * @return Candidates to dispatch the predicate on
+   */
+  private List<Class<?>> selectCandidates(MemberIndex index) {
+    if (isStatic != null)
+      return index.getClassesByStatic(isStatic);
+
+    return index.getClasses();
   }
 }
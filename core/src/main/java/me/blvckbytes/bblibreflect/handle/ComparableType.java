@@ -1,7 +1,13 @@
 package me.blvckbytes.bblibreflect.handle;
 
 import com.google.common.primitives.Primitives;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -24,6 +30,8 @@ import lombok.Getter;
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
 @Getter
+@EqualsAndHashCode
+@ToString
 public class ComparableType {
 
   private final Class<?> type;
@@ -55,6 +63,32 @@ public class ComparableType {
     return isAssignable(other);
   }
 
+  /**
+   * Checks whether this type only matches itself, which allows
+   * to look it up directly instead of comparing one by one
+   */
+  public boolean isExact() {
+    return !ignoreBoxing && assignability == Assignability.NONE;
+  }
+
+  /**
+   * Convert a sequence of types into their plain classes, if all of them are exact
+   * @param types Types to convert
+   * @return Sequence of plain classes, null if any of the types is not exact
+   */
+  public static @Nullable List<Class<?>> toExactSignature(List<ComparableType> types) {
+    List<Class<?>> signature = new ArrayList<>(types.size());
+
+    for (ComparableType type : types) {
+      if (!type.isExact())
+        return null;
+
+      signature.add(type.getType());
+    }
+
+    return signature;
+  }
+
   /**
    * Checks whether this type matches the specified
    * assignability with another type
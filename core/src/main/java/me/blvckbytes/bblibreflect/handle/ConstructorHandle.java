@@ -0,0 +1,261 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/14/2022
+
+  Represents a reflection handle of any given constructor.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConstructorHandle {
+
+  // Highest arity which has a specialized, varargs-free instantiation path
+  private static final int MAX_SPECIALIZED_ARITY = 3;
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private final Constructor<?> constructor;
+  private final int arity;
+
+  // Instantiator of the shape (Object...)Object without varargs collection,
+  // null if the arity isn't specialized or the JVM didn't allow to create it
+  private final @Nullable java.lang.invoke.MethodHandle instantiator;
+
+  // Probe which instantiations are reported to, null if profiling is disabled
+  private final @Nullable HandleProfiler.Probe probe;
+
+  /**
+   * Create a new constructor handle by locating the target constructor within
+   * the given target class by dispatching the predicate immediately.
+   * @param target Target class to search in
+   * @param predicate Predicate which chooses the matching constructor
+   * @throws NoSuchMethodException Thrown if the predicate didn't yield any results
+   */
+  public ConstructorHandle(Class<?> target, IConstructorPredicate predicate) throws NoSuchMethodException {
+    this(requireLocated(locate(target, MemberIndex::getConstructors, predicate)));
+  }
+
+  /**
+   * Create a new constructor handle on an already located constructor
+   * @param constructor Target constructor
+   */
+  ConstructorHandle(Constructor<?> constructor) {
+    // Set the constructor accessible and hold a reference to it
+    this.constructor = constructor;
+    this.constructor.setAccessible(true);
+
+    this.arity = this.constructor.getParameterCount();
+    this.probe = HandleProfiler.createProbe(this.constructor);
+    this.instantiator = HandleProfiler.instrument(compileInstantiator(this.constructor), this.probe);
+  }
+
+  /**
+   * Create a new instance by invoking this constructor
+   * @param args Args to pass when calling
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance(Object... args) throws IllegalAccessException, InvocationTargetException, InstantiationException {
+    if (this.probe == null)
+      return this.constructor.newInstance(args);
+
+    long start = this.probe.enter();
+
+    try {
+      return this.constructor.newInstance(args);
+    } finally {
+      this.probe.exit(start);
+    }
+  }
+
+  /**
+   * Create a new instance by invoking this constructor without any arguments
+   * @return Instance of the constructor's declaring class
+   * @throws InvocationTargetException Thrown if the constructor itself threw
+   * @throws IllegalArgumentException Thrown if the arguments don't fit the constructor's parameters
+   */
+  public Object newInstance0() throws IllegalAccessException, InvocationTargetException, InstantiationException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.instantiator == null || this.arity != 0)
+      return this.constructor.newInstance();
+
+    try {
+      return (Object) this.instantiator.invokeExact();
+    } catch (Throwable t) {
+      throw MethodHandle.rethrow(t);
+    }
+  }
+
+  /**
+   * Create a new instance by invoking this constructor with a single argument
+   * @param a First argument
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance1(Object a) throws IllegalAccessException, InvocationTargetException, InstantiationException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.instantiator == null || this.arity != 1)
+      return this.constructor.newInstance(a);
+
+    try {
+      return (Object) this.instantiator.invokeExact(a);
+    } catch (Throwable t) {
+      throw MethodHandle.rethrow(t);
+    }
+  }
+
+  /**
+   * Create a new instance by invoking this constructor with two arguments
+   * @param a First argument
+   * @param b Second argument
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance2(Object a, Object b) throws IllegalAccessException, InvocationTargetException, InstantiationException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.instantiator == null || this.arity != 2)
+      return this.constructor.newInstance(a, b);
+
+    try {
+      return (Object) this.instantiator.invokeExact(a, b);
+    } catch (Throwable t) {
+      throw MethodHandle.rethrow(t);
+    }
+  }
+
+  /**
+   * Create a new instance by invoking this constructor with three arguments
+   * @param a First argument
+   * @param b Second argument
+   * @param c Third argument
+   * @return Instance of the constructor's declaring class
+   */
+  public Object newInstance3(Object a, Object b, Object c) throws IllegalAccessException, InvocationTargetException, InstantiationException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.instantiator == null || this.arity != 3)
+      return this.constructor.newInstance(a, b, c);
+
+    try {
+      return (Object) this.instantiator.invokeExact(a, b, c);
+    } catch (Throwable t) {
+      throw MethodHandle.rethrow(t);
+    }
+  }
+
+  /**
+   * Get the number of parameters this constructor requires
+   */
+  public int getParameterCount() {
+    return this.arity;
+  }
+
+  /**
+   * Get the underlying constructor this handle operates on
+   */
+  Constructor<?> getConstructor() {
+    return this.constructor;
+  }
+
+  /**
+   * Get the probe which invocations are reported to, null if profiling is disabled
+   */
+  @Nullable HandleProfiler.Probe getProbe() {
+    return this.probe;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof Constructor<?>))
+      return false;
+
+    return constructor.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return constructor.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return constructor.toString();
+  }
+
+  /**
+   * Require a located constructor to be present
+   * @param c Located constructor, null if there was no result
+   * @return Located constructor
+   * @throws NoSuchMethodException Thrown if the constructor couldn't be located
+   */
+  private static Constructor<?> requireLocated(@Nullable Constructor<?> c) throws NoSuchMethodException {
+    if (c == null)
+      throw new NoSuchMethodException("Could not satisfy the constructor predicate.");
+
+    return c;
+  }
+
+  /**
+   * Locate a constructor within the given target class by dispatching
+   * the predicate on the candidates the member index yields
+   * @param target Target class to search in
+   * @param candidates Selects the candidates to test from the class's member index
+   * @param predicate Predicate which chooses the matching constructor
+   * @return Located constructor, null if the predicate didn't yield any results
+   */
+  static @Nullable Constructor<?> locate(
+    Class<?> target,
+    Function<MemberIndex, List<Constructor<?>>> candidates,
+    IConstructorPredicate predicate
+  ) {
+    if (target == null)
+      throw new IllegalStateException("Target has to be present.");
+
+    // Loop all candidate constructors of this class and call the predicate on each of them
+    for (Constructor<?> c : candidates.apply(MemberIndex.of(target))) {
+
+      // Predicate match, take constructor
+      if (predicate.matches(c))
+        return c;
+    }
+
+    // The predicate matched on none of them
+    return null;
+  }
+
+  /**
+   * Try to compile an instantiator of the shape (Object...)Object, where the number of objects
+   * equals the constructor's arity and which only throws InvocationTargetExceptions itself
+   * @param c Accessible constructor to compile for
+   * @return Compiled instantiator, null if the arity isn't specialized or the JVM refused to create it
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileInstantiator(Constructor<?> c) {
+    int arity = c.getParameterCount();
+
+    if (arity > MAX_SPECIALIZED_ARITY)
+      return null;
+
+    try {
+      return MethodHandle.wrapTargetExceptions(LOOKUP.unreflectConstructor(c)).asType(MethodType.genericMethodType(arity));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+}
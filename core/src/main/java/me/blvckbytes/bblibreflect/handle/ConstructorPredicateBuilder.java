@@ -2,8 +2,10 @@ package me.blvckbytes.bblibreflect.handle;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /*
@@ -28,7 +30,6 @@ import java.util.List;
 */
 public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHandle> {
 
-  private final ClassHandle targetClass;
   private @Nullable Boolean isPublic;
   private final List<ComparableType> parameterTypes;
 
@@ -37,7 +38,7 @@ public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHa
    * @param targetClass Class to search through
    */
   public ConstructorPredicateBuilder(ClassHandle targetClass) {
-    this.targetClass = targetClass;
+    super(targetClass);
     this.parameterTypes = new ArrayList<>();
   }
 
@@ -98,23 +99,16 @@ public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHa
   ////////////////////////////////// Retrieval //////////////////////////////////
 
   @Override
-  public @Nullable ConstructorHandle optional() {
-    try {
-      return required();
-    }
-
-    catch (IncompletePredicateBuilderException e) {
-      throw e;
-    }
-
-    catch (Exception e) {
-      return null;
-    }
+  protected @Nullable ConstructorHandle find() {
+    Constructor<?> located = ConstructorHandle.locate(targetClass.get(), this::selectCandidates, buildPredicate());
+    return located == null ? null : new ConstructorHandle(located);
   }
 
-  @Override
-  public ConstructorHandle required() throws Exception {
-    return new ConstructorHandle(targetClass.get(), c -> {
+  /**
+   * Build the predicate which matches constructors against all parameters of this builder
+   */
+  private IConstructorPredicate buildPredicate() {
+    return c -> {
 
       // Public modifier mismatch
       if (isPublic != null && Modifier.isPublic(c.getModifiers()) != isPublic)
@@ -135,6 +129,50 @@ public class ConstructorPredicateBuilder extends APredicateBuilder<ConstructorHa
       }
 
       return true;
-    });
+    };
+  }
+
+  @Override
+  protected NoSuchMethodException createNotFoundException() {
+    return new NoSuchMethodException("Could not satisfy the constructor predicate.");
+  }
+
+  @Override
+  protected @Nullable ConstructorHandle bind(String member) {
+    Constructor<?> constructor = ResolutionCache.findConstructor(targetClass.get(), member);
+
+    if (constructor == null || !buildPredicate().matches(constructor))
+      return null;
+
+    return new ConstructorHandle(constructor);
+  }
+
+  @Override
+  protected String describe(ConstructorHandle result) {
+    return ResolutionCache.describe(result.getConstructor());
+  }
+
+  @Override
+  protected @Nullable HandleProfiler.Probe getProbe(ConstructorHandle result) {
+    return result.getProbe();
+  }
+
+  @Override
+  protected List<Object> getSignature() {
+    return Arrays.asList(getClass(), isPublic, new ArrayList<>(parameterTypes));
+  }
+
+  /**
+   * Select the smallest known bucket of candidates from a member index
+   * @param index Member index of the target class
+   * @return Candidates to dispatch the predicate on
+   */
+  private List<Constructor<?>> selectCandidates(MemberIndex index) {
+    List<Class<?>> signature = ComparableType.toExactSignature(parameterTypes);
+
+    if (signature != null)
+      return index.getConstructorsBySignature(signature);
+
+    return index.getConstructorsByParameterCount(parameterTypes.size());
   }
 }
@@ -1,5 +1,7 @@
 package me.blvckbytes.bblibreflect.handle;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.List;
 
 /*
@@ -62,6 +64,37 @@ public class EnumHandle extends ClassHandle {
     }
   }
 
+  /**
+   * Get an enumeration constant by it's name
+   * @param name Name of the constant
+   * @return Enumeration constant, null if there is no constant with this name
+   */
+  public @Nullable Enum<?> getByName(String name) {
+    for (Enum<?> constant : e) {
+      if (constant.name().equals(name))
+        return constant;
+    }
+
+    return null;
+  }
+
+  /**
+   * Get the number of constants of this enumeration
+   */
+  public int getSize() {
+    return e.size();
+  }
+
+  /**
+   * Build a translation table which maps the constants of a library
+   * enumeration onto the constants of this enumeration
+   * @param source Library enumeration to translate from
+   * @return Translation table
+   */
+  public <E extends Enum<E>> EnumTranslation<E> translationFrom(Class<E> source) {
+    return new EnumTranslation<>(source, this);
+  }
+
   /**
    * Get an enumeration constant by looking up the ordinal of a
    * copy enum which has it's constants sorted in the exact same order.
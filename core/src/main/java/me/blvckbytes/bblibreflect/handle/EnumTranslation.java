@@ -0,0 +1,112 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Translates the constants of a library enumeration into the constants of
+  a version dependent enumeration by a table which is built and validated
+  once. Constants are matched up by their names, and constants without a name
+  match (renamed or obfuscated) by their ordinals, as long as the target's
+  constant at that position isn't already the name match of another one.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class EnumTranslation<E extends Enum<E>> {
+
+  @Getter private final Class<E> source;
+  @Getter private final EnumHandle target;
+
+  // Target constants, indexed by the source constant's ordinal, null if unmapped
+  private final Enum<?>[] table;
+
+  // Source constants which have no counterpart on the target
+  @Getter private final List<E> unmapped;
+
+  /**
+   * Create a new translation table between two enumerations
+   * @param source Library enumeration to translate from
+   * @param target Version dependent enumeration to translate to
+   */
+  public EnumTranslation(Class<E> source, EnumHandle target) {
+    this.source = source;
+    this.target = target;
+
+    E[] constants = source.getEnumConstants();
+    this.table = new Enum<?>[constants.length];
+
+    List<E> unmapped = new ArrayList<>();
+
+    // Target constants which have been matched up by name already, indexed by their ordinal
+    boolean[] claimed = new boolean[target.getSize()];
+
+    // Match up by names, as far as they're present
+    for (E constant : constants) {
+      Enum<?> match = target.getByName(constant.name());
+      table[constant.ordinal()] = match;
+
+      if (match != null)
+        claimed[match.ordinal()] = true;
+    }
+
+    for (E constant : constants) {
+      int ordinal = constant.ordinal();
+
+      // Renamed or obfuscated, fall back to the constant at the same position, unless it's another constant's name match
+      if (table[ordinal] == null && ordinal < claimed.length && !claimed[ordinal]) {
+        table[ordinal] = target.getByOrdinal(ordinal);
+        claimed[ordinal] = true;
+      }
+
+      if (table[ordinal] == null)
+        unmapped.add(constant);
+    }
+
+    this.unmapped = Collections.unmodifiableList(unmapped);
+  }
+
+  /**
+   * Translate a library constant into it's version dependent counterpart
+   * @param constant Constant to translate
+   * @return Translated constant
+   * @throws EnumConstantNotPresentException Thrown if the constant has no counterpart on this version
+   */
+  @SuppressWarnings("unchecked")
+  public Enum<?> translate(E constant) throws EnumConstantNotPresentException {
+    Enum<?> result = table[constant.ordinal()];
+
+    if (result == null)
+      throw new EnumConstantNotPresentException((Class<? extends Enum<?>>) target.get(), constant.name());
+
+    return result;
+  }
+
+  /**
+   * Checks whether all library constants have a counterpart on this version
+   */
+  public boolean isComplete() {
+    return unmapped.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return source.getName() + " -> " + target;
+  }
+}
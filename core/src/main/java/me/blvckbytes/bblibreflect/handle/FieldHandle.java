@@ -0,0 +1,777 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/14/2022
+
+  Represents a reflection handle of any given field.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FieldHandle {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private final Field field;
+
+  // Probe which invocations are reported to, null if profiling is disabled
+  private final @Nullable HandleProfiler.Probe probe;
+
+  // Compiled accessors, null if the JVM didn't allow to create them
+  private final @Nullable java.lang.invoke.MethodHandle getter, setter;
+
+  // Compiled accessors of the field's exact type, which invokeExact type-checks against
+  // the accessing call site, so that primitive accesses of other types are rejected
+  private final @Nullable java.lang.invoke.MethodHandle exactGetter, exactSetter;
+
+  // Type of the field, used to check reflective primitive accesses
+  private final Class<?> type;
+
+  // Canonical constructor of the declaring record as (Object[])Object, null for non-records
+  private final @Nullable java.lang.invoke.MethodHandle recordConstructor;
+
+  // Getters of all record components in canonical order, null for non-records
+  private final @Nullable java.lang.invoke.MethodHandle[] componentGetters;
+
+  // Index of this field within the record's components, -1 for non-records
+  private final int componentIndex;
+
+  /**
+   * Create a new field handle by locating the target field within
+   * the given target class by dispatching the predicate immediately.
+   * @param target Target class to search in
+   * @param predicate Predicate which chooses the matching field
+   * @throws NoSuchFieldException Thrown if the predicate didn't yield any results
+   */
+  public FieldHandle(Class<?> target, IFieldPredicate predicate) throws NoSuchFieldException {
+    this(requireLocated(locate(target, true, MemberIndex::getFields, predicate)));
+  }
+
+  /**
+   * Create a new field handle on an already located field
+   * @param field Target field
+   */
+  FieldHandle(Field field) {
+    // Set the field accessible and hold a reference to it
+    this.field = field;
+    this.field.setAccessible(true);
+
+    // Only instrumented if profiling has been enabled
+    this.probe = HandleProfiler.createProbe(this.field);
+
+    // Compile accessors once, so the hot path skips reflective access checks
+    this.getter = HandleProfiler.instrument(compileGetter(this.field, Object.class), probe);
+    this.setter = HandleProfiler.instrument(compileSetter(this.field, Object.class), probe);
+
+    this.type = this.field.getType();
+    this.exactGetter = HandleProfiler.instrument(compileGetter(this.field, this.type), probe);
+    this.exactSetter = HandleProfiler.instrument(compileSetter(this.field, this.type), probe);
+
+    // Records cannot be written to, prepare to copy them through their canonical constructor
+    Field[] components = isRecord(this.field) ? getComponents(this.field.getDeclaringClass()) : null;
+    this.recordConstructor = components == null ? null : compileCanonicalConstructor(this.field.getDeclaringClass(), components);
+
+    if (this.recordConstructor == null) {
+      this.componentGetters = null;
+      this.componentIndex = -1;
+      return;
+    }
+
+    this.componentGetters = new java.lang.invoke.MethodHandle[components.length];
+    int index = -1;
+
+    for (int i = 0; i < components.length; i++) {
+      components[i].setAccessible(true);
+      this.componentGetters[i] = compileGetter(components[i], Object.class);
+
+      if (components[i].equals(this.field))
+        index = i;
+    }
+
+    this.componentIndex = index;
+  }
+
+  /**
+   * Set the field's value on an object instance
+   * @param o Target object to modify
+   * @param v Field value to set
+   */
+  public void set(Object o, Object v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.setter == null) {
+      this.field.set(o, v);
+      return;
+    }
+
+    try {
+      this.setter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Get the field's value from an object instance
+   * @param o Target object to read from
+   * @return Field value
+   */
+  public Object get(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.getter == null)
+      return this.field.get(o);
+
+    try {
+      return (Object) this.getter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Set the field's value on an object instance, or - if the instance is an immutable
+   * record - create a copy of it which only differs in this field's value
+   * @param o Target object to modify or copy
+   * @param v Field value to set
+   * @return Either the modified input or a modified copy of it
+   */
+  public Object with(Object o, Object v) throws IllegalAccessException {
+    // Mutable instance, set in place
+    if (this.recordConstructor == null || this.componentGetters == null) {
+      set(o, v);
+      return o;
+    }
+
+    try {
+      Object[] args = new Object[this.componentGetters.length];
+
+      // Carry over all other components, substitute this one
+      for (int i = 0; i < args.length; i++)
+        args[i] = i == this.componentIndex ? v : (Object) this.componentGetters[i].invokeExact(o);
+
+      return (Object) this.recordConstructor.invokeExact(args);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Set the value of an int field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type int
+   */
+  public void setInt(Object o, int v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(int.class);
+      this.field.setInt(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, int.class);
+    }
+  }
+
+  /**
+   * Get the value of an int field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type int
+   */
+  public int getInt(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(int.class);
+      return this.field.getInt(o);
+    }
+
+    try {
+      return (int) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, int.class);
+    }
+  }
+
+  /**
+   * Set the value of a long field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type long
+   */
+  public void setLong(Object o, long v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(long.class);
+      this.field.setLong(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, long.class);
+    }
+  }
+
+  /**
+   * Get the value of a long field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type long
+   */
+  public long getLong(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(long.class);
+      return this.field.getLong(o);
+    }
+
+    try {
+      return (long) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, long.class);
+    }
+  }
+
+  /**
+   * Set the value of a boolean field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type boolean
+   */
+  public void setBoolean(Object o, boolean v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(boolean.class);
+      this.field.setBoolean(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, boolean.class);
+    }
+  }
+
+  /**
+   * Get the value of a boolean field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type boolean
+   */
+  public boolean getBoolean(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(boolean.class);
+      return this.field.getBoolean(o);
+    }
+
+    try {
+      return (boolean) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, boolean.class);
+    }
+  }
+
+  /**
+   * Set the value of a double field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type double
+   */
+  public void setDouble(Object o, double v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(double.class);
+      this.field.setDouble(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, double.class);
+    }
+  }
+
+  /**
+   * Get the value of a double field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type double
+   */
+  public double getDouble(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(double.class);
+      return this.field.getDouble(o);
+    }
+
+    try {
+      return (double) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, double.class);
+    }
+  }
+
+  /**
+   * Set the value of a float field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type float
+   */
+  public void setFloat(Object o, float v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(float.class);
+      this.field.setFloat(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, float.class);
+    }
+  }
+
+  /**
+   * Get the value of a float field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type float
+   */
+  public float getFloat(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(float.class);
+      return this.field.getFloat(o);
+    }
+
+    try {
+      return (float) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, float.class);
+    }
+  }
+
+  /**
+   * Set the value of a short field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type short
+   */
+  public void setShort(Object o, short v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(short.class);
+      this.field.setShort(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, short.class);
+    }
+  }
+
+  /**
+   * Get the value of a short field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type short
+   */
+  public short getShort(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(short.class);
+      return this.field.getShort(o);
+    }
+
+    try {
+      return (short) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, short.class);
+    }
+  }
+
+  /**
+   * Set the value of a byte field on an object instance without boxing
+   * @param o Target object to modify
+   * @param v Field value to set
+   * @throws IllegalStateException Thrown if the field is not of type byte
+   */
+  public void setByte(Object o, byte v) throws IllegalAccessException {
+    // No compiled setter available, fall back to reflection
+    if (this.exactSetter == null) {
+      requireType(byte.class);
+      this.field.setByte(o, v);
+      return;
+    }
+
+    try {
+      this.exactSetter.invokeExact(o, v);
+    } catch (Throwable t) {
+      throw rethrow(t, byte.class);
+    }
+  }
+
+  /**
+   * Get the value of a byte field from an object instance without boxing
+   * @param o Target object to read from
+   * @return Field value
+   * @throws IllegalStateException Thrown if the field is not of type byte
+   */
+  public byte getByte(Object o) throws IllegalAccessException {
+    // No compiled getter available, fall back to reflection
+    if (this.exactGetter == null) {
+      requireType(byte.class);
+      return this.field.getByte(o);
+    }
+
+    try {
+      return (byte) this.exactGetter.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t, byte.class);
+    }
+  }
+
+  /**
+   * Bind this field's getter to a functional interface, whose single abstract method takes
+   * the instance to read from and returns the field's value as it's own return type, which
+   * may be primitive. Bind once and keep the result, as every call spins up a new implementation.
+   * @param functionalInterface Interface to implement
+   * @return Implementation of the interface which reads this field through it's compiled getter
+   * @throws IllegalStateException Thrown if the interface's method doesn't fit this field
+   */
+  public <F> F bindGetter(Class<F> functionalInterface) throws IllegalStateException {
+    Method sam = MethodHandle.findSingleAbstractMethod(functionalInterface);
+
+    if (sam.getParameterCount() != 1 || sam.getReturnType() == void.class)
+      throw new IllegalStateException("The method " + sam + " has to take the instance and return the value to bind to " + field);
+
+    return bindAccessor(functionalInterface, sam, this.exactGetter, MethodType.methodType(sam.getReturnType(), Object.class));
+  }
+
+  /**
+   * Bind this field's setter to a functional interface, whose single abstract method takes
+   * the instance to write to as well as the value, which may be primitive, and returns void.
+   * Bind once and keep the result, as every call spins up a new implementation.
+   * @param functionalInterface Interface to implement
+   * @return Implementation of the interface which writes this field through it's compiled setter
+   * @throws IllegalStateException Thrown if the interface's method doesn't fit this field or the field cannot be written to
+   */
+  public <F> F bindSetter(Class<F> functionalInterface) throws IllegalStateException {
+    Method sam = MethodHandle.findSingleAbstractMethod(functionalInterface);
+
+    if (sam.getParameterCount() != 2 || sam.getReturnType() != void.class)
+      throw new IllegalStateException("The method " + sam + " has to take the instance and the value and return void to bind to " + field);
+
+    return bindAccessor(functionalInterface, sam, this.exactSetter, MethodType.methodType(void.class, Object.class, sam.getParameterTypes()[1]));
+  }
+
+  /**
+   * Get the underlying field this handle operates on
+   */
+  Field getField() {
+    return this.field;
+  }
+
+  /**
+   * Get the probe which invocations are reported to, null if profiling is disabled
+   */
+  @Nullable HandleProfiler.Probe getProbe() {
+    return this.probe;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof Field))
+      return false;
+
+    return field.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return field.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return field.toString();
+  }
+
+  /**
+   * Require a located field to be present
+   * @param f Located field, null if there was no result
+   * @return Located field
+   * @throws NoSuchFieldException Thrown if the field couldn't be located
+   */
+  private static Field requireLocated(@Nullable Field f) throws NoSuchFieldException {
+    if (f == null)
+      throw new NoSuchFieldException("Could not satisfy the field predicate.");
+
+    return f;
+  }
+
+  /**
+   * Locate a field within the given target class by dispatching the predicate on
+   * the candidates the member index yields for each class of the hierarchy
+   * @param target Target class to search in
+   * @param walkHierarchy Whether to also search through the superclasses
+   * @param candidates Selects the candidates to test from a class's member index
+   * @param predicate Predicate which chooses the matching field
+   * @return Located field, null if the predicate didn't yield any results
+   */
+  static @Nullable Field locate(
+    Class<?> target,
+    boolean walkHierarchy,
+    Function<MemberIndex, List<Field>> candidates,
+    IFieldPredicate predicate
+  ) {
+    if (target == null)
+      throw new IllegalStateException("Target has to be present.");
+
+    int counter = 0;
+
+    // Walk up the hierarchy chain
+    Class<?> curr = target;
+    while (curr != null && curr != Object.class) {
+
+      // Loop all candidate fields of the current class
+      for (Field f : candidates.apply(MemberIndex.of(curr))) {
+        Boolean result = predicate.matches(f, counter);
+
+        // Null means that it would have matched, but the
+        // skip counter has not yet elapsed
+        if (result == null) {
+          counter++;
+          continue;
+        }
+
+        // Predicate match, take the field
+        if (result)
+          return f;
+      }
+
+      if (!walkHierarchy)
+        break;
+
+      curr = curr.getSuperclass();
+    }
+
+    // The predicate matched on none of them
+    return null;
+  }
+
+  /**
+   * Checks whether the field is an instance field of a record
+   * @param f Field to check
+   * @return True if the field is a record component, false otherwise
+   */
+  private static boolean isRecord(Field f) {
+    return !Modifier.isStatic(f.getModifiers()) && isRecord(f.getDeclaringClass());
+  }
+
+  /**
+   * Checks whether a class is a record, which is determined by name, as
+   * java.lang.Record is not available on all supported versions
+   * @param c Class to check
+   * @return True if the class is a record, false otherwise
+   */
+  static boolean isRecord(Class<?> c) {
+    Class<?> superclass = c.getSuperclass();
+    return superclass != null && superclass.getName().equals("java.lang.Record");
+  }
+
+  /**
+   * Get all components of a record in their declaration order, which
+   * also is the parameter order of it's canonical constructor
+   * @param record Record class to get the components of
+   * @return Array of component fields
+   */
+  private static Field[] getComponents(Class<?> record) {
+    return Arrays.stream(record.getDeclaredFields())
+      .filter(f -> !Modifier.isStatic(f.getModifiers()))
+      .toArray(Field[]::new);
+  }
+
+  /**
+   * Try to compile the canonical constructor of a record into the shape (Object[])Object
+   * @param record Record class to compile the constructor of
+   * @param components Components of the record
+   * @return Compiled constructor, null if there was no matching constructor or the JVM refused to create it
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileCanonicalConstructor(Class<?> record, Field[] components) {
+    try {
+      Class<?>[] types = Arrays.stream(components).map(Field::getType).toArray(Class[]::new);
+      Constructor<?> ctor = record.getDeclaredConstructor(types);
+      ctor.setAccessible(true);
+
+      return LOOKUP.unreflectConstructor(ctor)
+        .asSpreader(Object[].class, types.length)
+        .asType(MethodType.methodType(Object.class, Object[].class));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Try to compile a getter of the shape (Object)V for a field
+   * @param f Accessible field to compile for
+   * @param valueType Type V the value should be returned as
+   * @return Compiled getter, null if the JVM refused to create it
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileGetter(Field f, Class<?> valueType) {
+    try {
+      java.lang.invoke.MethodHandle getter = LOOKUP.unreflectGetter(f);
+
+      // Static getters take no instance, ignore the passed object
+      if (Modifier.isStatic(f.getModifiers()))
+        getter = MethodHandles.dropArguments(getter, 0, Object.class);
+
+      return getter.asType(MethodType.methodType(valueType, Object.class));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Try to compile a setter of the shape (Object, V)void for a field
+   * @param f Accessible field to compile for
+   * @param valueType Type V the value should be accepted as
+   * @return Compiled setter, null if the JVM refused to create it (static finals, for example)
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileSetter(Field f, Class<?> valueType) {
+    try {
+      java.lang.invoke.MethodHandle setter = LOOKUP.unreflectSetter(f);
+
+      // Static setters take no instance, ignore the passed object
+      if (Modifier.isStatic(f.getModifiers()))
+        setter = MethodHandles.dropArguments(setter, 0, Object.class);
+
+      return setter.asType(MethodType.methodType(void.class, Object.class, valueType));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Bind a compiled accessor to a functional interface by the lambda metafactory, which only
+   * accepts direct method handles and thus calls the captured accessor through an invoker bridge
+   * @param functionalInterface Interface to implement
+   * @param sam Single abstract method of the interface
+   * @param accessor Compiled accessor of the field's exact type, null if there is none
+   * @param accessType Type of the accessor as the interface's method calls it
+   * @return Implementation of the interface
+   * @throws IllegalStateException Thrown if the interface's method doesn't fit the accessor
+   */
+  private <F> F bindAccessor(
+    Class<F> functionalInterface,
+    Method sam,
+    @Nullable java.lang.invoke.MethodHandle accessor,
+    MethodType accessType
+  ) throws IllegalStateException {
+    if (accessor == null)
+      throw new IllegalStateException("Cannot bind " + field + ", as the JVM refused to compile an accessor");
+
+    if (sam.getParameterTypes()[0].isPrimitive())
+      throw new IllegalStateException("The method " + sam + " has to take the instance as it's first parameter");
+
+    java.lang.invoke.MethodHandle invoker;
+
+    // Convert between the field's type and the interface's type once, rejecting types which never convert
+    try {
+      invoker = accessor.asType(accessType);
+    } catch (WrongMethodTypeException e) {
+      throw new IllegalStateException("The method " + sam + " doesn't fit the type of " + field, e);
+    }
+
+    int arguments = accessType.parameterCount();
+
+    try {
+      java.lang.invoke.MethodHandle bridge = LOOKUP.findStatic(
+        InvokerBridge.class, "invoke",
+        MethodType.genericMethodType(arguments).insertParameterTypes(0, java.lang.invoke.MethodHandle.class)
+      );
+
+      return MethodHandle.metafactory(
+        functionalInterface, sam, bridge,
+        MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()),
+        invoker.asType(MethodType.genericMethodType(arguments))
+      );
+    } catch (Throwable e) {
+      throw new IllegalStateException("Could not bind " + field + " to " + functionalInterface.getName(), e);
+    }
+  }
+
+  /**
+   * Ensures that the field is of the given type before accessing it reflectively without boxing
+   * @param type Type the caller expects
+   * @throws IllegalStateException Thrown if the field's type differs
+   */
+  private void requireType(Class<?> type) throws IllegalStateException {
+    if (this.type != type)
+      throw new IllegalStateException("The field " + field + " is not of type " + type);
+  }
+
+  /**
+   * Rethrow a throwable caught while invoking a compiled accessor without boxing
+   * @param t Caught throwable
+   * @param type Type the caller accessed the field as
+   * @return Exception to throw
+   */
+  private RuntimeException rethrow(Throwable t, Class<?> type) {
+    // The compiled accessor's type differs from the type of the call site
+    if (t instanceof WrongMethodTypeException)
+      return new IllegalStateException("The field " + field + " is not of type " + type);
+
+    return rethrow(t);
+  }
+
+  /**
+   * Rethrow a throwable caught while invoking a compiled accessor. Accessors
+   * cannot throw checked exceptions, so everything else is unexpected.
+   * @param t Caught throwable
+   * @return Exception to throw
+   */
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException)
+      return (RuntimeException) t;
+
+    if (t instanceof Error)
+      throw (Error) t;
+
+    return new IllegalStateException(t);
+  }
+}
@@ -2,10 +2,12 @@ package me.blvckbytes.bblibreflect.handle;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /*
@@ -30,8 +32,6 @@ import java.util.List;
 */
 public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle> {
 
-  private final ClassHandle targetClass;
-
   private @Nullable Boolean isStatic;
   private @Nullable Boolean isPublic;
   private @Nullable String name;
@@ -40,12 +40,15 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle> {
   private boolean allowSuperclass;
   private int skip;
 
+  // Only affects batches, so it's not part of the signature
+  private boolean optional;
+
   /**
    * Create a new field predicate builder on a class handle
    * @param targetClass Class to search through
    */
   public FieldPredicateBuilder(ClassHandle targetClass) {
-    this.targetClass = targetClass;
+    super(targetClass);
     this.isStatic = false;
     this.allowSuperclass = false;
     this.genericTypes = new ArrayList<>();
@@ -187,34 +190,81 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle> {
     return this;
   }
 
+  ////////////////////////////////// Batches ////////////////////////////////////
+
+  /**
+   * Define whether the field may be missing when located as part of a batch by
+   * {@link ClassHandle#locateMany(FieldPredicateBuilder...)}, which then yields null
+   * @param mode Whether the field is optional
+   */
+  public FieldPredicateBuilder withOptional(boolean mode) {
+    this.optional = mode;
+    return this;
+  }
+
   ////////////////////////////////// Retrieval //////////////////////////////////
 
   @Override
-  public @Nullable FieldHandle optional() {
-    try {
-      return required();
-    }
+  protected @Nullable FieldHandle find() {
+    Field located = FieldHandle.locate(targetClass.get(), allowSuperclass, this::selectCandidates, buildPredicate());
+    return located == null ? null : new FieldHandle(located);
+  }
 
-    catch (IncompletePredicateBuilderException e) {
-      throw e;
-    }
+  @Override
+  protected NoSuchFieldException createNotFoundException() {
+    return new NoSuchFieldException("Could not satisfy the field predicate.");
+  }
+
+  @Override
+  protected @Nullable FieldHandle bind(String member) {
+    Field field = ResolutionCache.findField(targetClass.get(), allowSuperclass, member);
 
-    catch (Exception e) {
+    // The predicate has to match at the skip position without counting up
+    if (field == null || !Boolean.TRUE.equals(buildPredicate().matches(field, skip)))
       return null;
-    }
+
+    return new FieldHandle(field);
+  }
+
+  @Override
+  protected String describe(FieldHandle result) {
+    return ResolutionCache.describe(result.getField());
+  }
+
+  @Override
+  protected @Nullable HandleProfiler.Probe getProbe(FieldHandle result) {
+    return result.getProbe();
   }
 
   @Override
-  public FieldHandle required() throws Exception {
+  protected List<Object> getSignature() {
+    return Arrays.asList(getClass(), isStatic, isPublic, name, type, new ArrayList<>(genericTypes), allowSuperclass, skip);
+  }
+
+  /**
+   * Get whether the field may be missing when located as part of a batch
+   */
+  boolean isOptional() {
+    return optional;
+  }
+
+  /**
+   * Get whether walking up into the superclass is allowed
+   */
+  boolean isAllowSuperclass() {
+    return allowSuperclass;
+  }
+
+  /**
+   * Build the predicate which matches fields against all parameters of this builder
+   * @throws IncompletePredicateBuilderException Thrown if neither a name nor a type have been specified
+   */
+  IFieldPredicate buildPredicate() {
     // At least a name or a type are required
     if (name == null && type == null)
       throw new IncompletePredicateBuilderException();
 
-    return new FieldHandle(targetClass.get(), (f, mc) -> {
-
-      // Is inside of another class but superclass walking is disabled
-      if (!allowSuperclass && f.getDeclaringClass() != targetClass.get())
-        return false;
+    return (f, mc) -> {
 
       // Static modifier mismatch
       if (isStatic != null && Modifier.isStatic(f.getModifiers()) != isStatic)
@@ -235,7 +285,13 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle> {
       // Check generic parameters, if applicable
       int numGenerics = genericTypes.size();
       if (numGenerics > 0) {
-        Type[] types = ((ParameterizedType) f.getGenericType()).getActualTypeArguments();
+        Type genericType = f.getGenericType();
+
+        // Raw types don't carry any type parameters
+        if (!(genericType instanceof ParameterizedType))
+          return false;
+
+        Type[] types = ((ParameterizedType) genericType).getActualTypeArguments();
 
         // Not enough generic type parameters available
         if (types.length < numGenerics)
@@ -243,7 +299,8 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle> {
 
         // Type parameters need to match in sequence
         for (int i = 0; i < numGenerics; i++) {
-          if (!genericTypes.get(i).matches((Class<?>) types[i]))
+          // Wildcards, type variables and nested parameterized types are no plain classes
+          if (!(types[i] instanceof Class<?>) || !genericTypes.get(i).matches((Class<?>) types[i]))
             return false;
         }
       }
@@ -253,6 +310,24 @@ public class FieldPredicateBuilder extends APredicateBuilder<FieldHandle> {
         return null;
 
       return true;
-    });
+    };
+  }
+
+  /**
+   * Select the smallest known bucket of candidates from a member index
+   * @param index Member index of the currently searched class
+   * @return Candidates to dispatch the predicate on
+   */
+  private List<Field> selectCandidates(MemberIndex index) {
+    if (name != null)
+      return index.getFieldsByName(name);
+
+    if (type != null && type.isExact())
+      return index.getFieldsByType(type.getType());
+
+    if (isStatic != null)
+      return index.getFieldsByStatic(isStatic);
+
+    return index.getFields();
   }
 }
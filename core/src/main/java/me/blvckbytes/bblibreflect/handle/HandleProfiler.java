@@ -0,0 +1,302 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Counts the invocations of field, method and constructor handles and samples
+  their latency, attributed to the class which created the handle. Profiling is
+  opt-in by setting the system property bblibreflect.profileHandles to true, as
+  otherwise, handles are not instrumented at all and thus don't pay for it.
+
+  Probes are attributed to the lines which looked the handle up, not to the lines
+  which invoke it, as walking the stack on every invocation would cost more than
+  most of the measured invocations themselves. Lookups are memoized, so a probe
+  lists every site which resolved the same predicate, but can't tell how many of
+  the invocations each of them caused. Handles which are looked up once and then
+  shared report all of their invocations to that single site, like the handles of
+  an APacketCommunicator's constructor or the fields of a PacketSchema.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class HandleProfiler {
+
+  // Name of the system property which enables profiling
+  public static final String ENABLED_PROPERTY = "bblibreflect.profileHandles";
+
+  private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  // Every how many invocations (on average) the latency is sampled
+  private static final int SAMPLE_RATE = 64;
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final java.lang.invoke.MethodHandle M_ENTER, M_EXIT, M_EXIT_VOID;
+
+  // All probes which have been created so far
+  private static final Queue<Probe> probes = new ConcurrentLinkedQueue<>();
+
+  static {
+    try {
+      M_ENTER = LOOKUP.findVirtual(Probe.class, "enter", MethodType.methodType(long.class));
+      M_EXIT = LOOKUP.findStatic(HandleProfiler.class, "exit", MethodType.methodType(Object.class, Probe.class, Throwable.class, Object.class, long.class));
+      M_EXIT_VOID = LOOKUP.findStatic(HandleProfiler.class, "exit", MethodType.methodType(void.class, Probe.class, Throwable.class, long.class));
+    } catch (Exception e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  public static class Probe {
+
+    // Member the handle operates on
+    @Getter private final String member;
+
+    // Class which created the handle
+    @Getter private final String owner;
+
+    // All sites which looked the handle up, including the owner
+    private final Set<String> lookupSites;
+
+    private final LongAdder invocations, samples, sampledNanos;
+
+    private Probe(String member, String owner) {
+      this.member = member;
+      this.owner = owner;
+      this.lookupSites = ConcurrentHashMap.newKeySet();
+      this.lookupSites.add(owner);
+      this.invocations = new LongAdder();
+      this.samples = new LongAdder();
+      this.sampledNanos = new LongAdder();
+    }
+
+    /**
+     * Called before the handle is invoked
+     * @return Start timestamp if this invocation is sampled, zero otherwise
+     */
+    public long enter() {
+      if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0)
+        return 0;
+
+      return System.nanoTime();
+    }
+
+    /**
+     * Called after the handle has been invoked, whether it succeeded or not
+     * @param start Start timestamp, as returned by {@link #enter()}
+     */
+    public void exit(long start) {
+      invocations.increment();
+
+      if (start == 0)
+        return;
+
+      samples.increment();
+      sampledNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * Get all sites which looked the handle up, including the owner
+     */
+    public Set<String> getLookupSites() {
+      return Collections.unmodifiableSet(lookupSites);
+    }
+
+    /**
+     * Get the number of invocations
+     */
+    public long getInvocations() {
+      return invocations.sum();
+    }
+
+    /**
+     * Get the mean latency of all sampled invocations in nanoseconds, zero if there are no samples
+     */
+    public double getMeanNanos() {
+      long sampleCount = samples.sum();
+      return sampleCount == 0 ? 0 : sampledNanos.sum() / (double) sampleCount;
+    }
+
+    /**
+     * Get the estimated total time spent within the handle in nanoseconds
+     */
+    public double getEstimatedTotalNanos() {
+      return getMeanNanos() * getInvocations();
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+      invocations.reset();
+      samples.reset();
+      sampledNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+        "%s by %s: %d invocations, %.1fns mean, %.3fms total",
+        member, String.join(", ", lookupSites), getInvocations(), getMeanNanos(), getEstimatedTotalNanos() / 1_000_000
+      );
+    }
+  }
+
+  private HandleProfiler() {}
+
+  /**
+   * Checks whether profiling has been enabled
+   */
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Create a new probe for a handle, attributed to the first caller outside of this package,
+   * which is where the handle is looked up
+   * @param member Member the handle operates on
+   * @return Probe, null if profiling is disabled
+   */
+  static @Nullable Probe createProbe(Object member) {
+    if (!ENABLED)
+      return null;
+
+    Probe probe = new Probe(member.toString(), findLookupSite());
+    probes.add(probe);
+    return probe;
+  }
+
+  /**
+   * Record another site which looked up the handle of a probe, as memoized
+   * handles are shared between all sites which resolve the same predicate
+   * @param probe Probe of the handle, null if profiling is disabled
+   */
+  static void addLookupSite(@Nullable Probe probe) {
+    if (probe != null)
+      probe.lookupSites.add(findLookupSite());
+  }
+
+  /**
+   * Find the first caller outside of this package
+   * @return Class and line of the caller
+   */
+  private static String findLookupSite() {
+    return StackWalker.getInstance().walk(frames -> frames
+      .filter(frame -> !frame.getClassName().startsWith(HandleProfiler.class.getPackageName() + "."))
+      .findFirst()
+      .map(frame -> frame.getClassName() + ":" + frame.getLineNumber())
+      .orElse("unknown")
+    );
+  }
+
+  /**
+   * Instrument a compiled accessor, keeping it's type, so that every invocation reports to a probe
+   * @param target Accessor to instrument, may be null
+   * @param probe Probe to report to, null to not instrument
+   * @return Instrumented accessor, or the target itself if there's nothing to instrument
+   */
+  static @Nullable java.lang.invoke.MethodHandle instrument(@Nullable java.lang.invoke.MethodHandle target, @Nullable Probe probe) {
+    if (target == null || probe == null)
+      return target;
+
+    MethodType type = target.type();
+    Class<?> returnType = type.returnType();
+
+    // Cleanup of the shape (Throwable, [R], long)R, receiving the start timestamp as a leading argument
+    java.lang.invoke.MethodHandle cleanup = returnType == void.class
+      ? M_EXIT_VOID.bindTo(probe)
+      : M_EXIT.bindTo(probe).asType(MethodType.methodType(returnType, Throwable.class, returnType, long.class));
+
+    // (long, A...)R, where the timestamp is ignored by the target itself
+    java.lang.invoke.MethodHandle timed = MethodHandles.tryFinally(
+      MethodHandles.dropArguments(target, 0, long.class), cleanup
+    );
+
+    // Obtain the timestamp right before invoking
+    return MethodHandles.foldArguments(timed, M_ENTER.bindTo(probe));
+  }
+
+  /**
+   * Get all probes, ordered by their estimated total time in descending order
+   * @return List of probes
+   */
+  public static List<Probe> getProbes() {
+    List<Probe> result = new ArrayList<>(probes);
+    result.sort(Comparator.comparingDouble(Probe::getEstimatedTotalNanos).reversed());
+    return result;
+  }
+
+  /**
+   * Create a report of all probes which have been invoked at least once
+   * @param limit Maximum number of probes to include, the most expensive ones first
+   * @return Report with one probe per line
+   */
+  public static String report(int limit) {
+    StringBuilder report = new StringBuilder();
+
+    getProbes().stream()
+      .filter(probe -> probe.getInvocations() > 0)
+      .limit(limit)
+      .forEach(probe -> report.append(probe).append('\n'));
+
+    return report.toString();
+  }
+
+  /**
+   * Reset the counters of all probes
+   */
+  public static void reset() {
+    probes.forEach(Probe::reset);
+  }
+
+  /**
+   * Forget all probes, so that they can be collected together with their handles
+   */
+  public static void clear() {
+    probes.clear();
+  }
+
+  /**
+   * Report the end of an invocation which returns a value
+   * @param probe Probe to report to
+   * @param t Throwable thrown by the invocation, null if none
+   * @param result Result of the invocation
+   * @param start Start timestamp
+   * @return Result of the invocation
+   */
+  private static Object exit(Probe probe, Throwable t, Object result, long start) {
+    probe.exit(start);
+    return result;
+  }
+
+  /**
+   * Report the end of an invocation which returns void
+   * @param probe Probe to report to
+   * @param t Throwable thrown by the invocation, null if none
+   * @param start Start timestamp
+   */
+  private static void exit(Probe probe, Throwable t, long start) {
+    probe.exit(start);
+  }
+}
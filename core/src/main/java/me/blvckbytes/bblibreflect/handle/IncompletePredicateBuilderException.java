@@ -21,4 +21,8 @@ package me.blvckbytes.bblibreflect.handle;
   You should have received a copy of the GNU Affero General Public License
   along with this program.  If not, see <https://www.gnu.org/licenses/>.
 */
-public class IncompletePredicateBuilderException extends RuntimeException {}
+public class IncompletePredicateBuilderException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+}
@@ -0,0 +1,128 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Entry points for generated implementations of functional interfaces which
+  have been bound to members that aren't reachable from the generated class
+  itself. The implementation captures an already accessible method handle and
+  passes it's arguments through one of these bridges, which invoke it exactly
+  and thus without any further adaptation. They are public, as they're called
+  from the interface's package, which may belong to another plugin, but they are
+  internal to the handle layer and not meant to be called directly.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@ApiStatus.Internal
+public final class InvokerBridge {
+
+  // Highest number of arguments a bridge exists for
+  static final int MAX_ARGUMENTS = 6;
+
+  private InvokerBridge() {}
+
+  /**
+   * Invoke a captured handle without any arguments
+   * @param invoker Handle of the type ()Object
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker) throws Throwable {
+    return (Object) invoker.invokeExact();
+  }
+
+  /**
+   * Invoke a captured handle with one argument
+   * @param invoker Handle of the type (Object)Object
+   * @param a First argument
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker, Object a) throws Throwable {
+    return (Object) invoker.invokeExact(a);
+  }
+
+  /**
+   * Invoke a captured handle with two arguments
+   * @param invoker Handle of the type (Object,Object)Object
+   * @param a First argument
+   * @param b Second argument
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker, Object a, Object b) throws Throwable {
+    return (Object) invoker.invokeExact(a, b);
+  }
+
+  /**
+   * Invoke a captured handle with three arguments
+   * @param invoker Handle of the type (Object,Object,Object)Object
+   * @param a First argument
+   * @param b Second argument
+   * @param c Third argument
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker, Object a, Object b, Object c) throws Throwable {
+    return (Object) invoker.invokeExact(a, b, c);
+  }
+
+  /**
+   * Invoke a captured handle with four arguments
+   * @param invoker Handle of the type (Object,Object,Object,Object)Object
+   * @param a First argument
+   * @param b Second argument
+   * @param c Third argument
+   * @param d Fourth argument
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker, Object a, Object b, Object c, Object d) throws Throwable {
+    return (Object) invoker.invokeExact(a, b, c, d);
+  }
+
+  /**
+   * Invoke a captured handle with five arguments
+   * @param invoker Handle of the type (Object,Object,Object,Object,Object)Object
+   * @param a First argument
+   * @param b Second argument
+   * @param c Third argument
+   * @param d Fourth argument
+   * @param e Fifth argument
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker, Object a, Object b, Object c, Object d, Object e) throws Throwable {
+    return (Object) invoker.invokeExact(a, b, c, d, e);
+  }
+
+  /**
+   * Invoke a captured handle with six arguments
+   * @param invoker Handle of the type (Object,Object,Object,Object,Object,Object)Object
+   * @param a First argument
+   * @param b Second argument
+   * @param c Third argument
+   * @param d Fourth argument
+   * @param e Fifth argument
+   * @param f Sixth argument
+   * @return Result of the invocation
+   * @throws Throwable Anything thrown by the invocation, passed on as is
+   */
+  public static Object invoke(java.lang.invoke.MethodHandle invoker, Object a, Object b, Object c, Object d, Object e, Object f) throws Throwable {
+    return (Object) invoker.invokeExact(a, b, c, d, e, f);
+  }
+}
@@ -0,0 +1,84 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Wraps the resolution of a handle which is declared up front but only resolved
+  on it's first use, so that rarely used handles neither cost startup time nor
+  memory unless they're actually needed. Setting the system property
+  bblibreflect.eagerHandles to true resolves all lazy handles immediately,
+  which allows to verify every predicate at startup (useful for CI runs).
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LazyHandle<T> {
+
+  // Name of the system property which forces immediate resolution
+  public static final String EAGER_PROPERTY = "bblibreflect.eagerHandles";
+
+  private static final boolean EAGER = Boolean.getBoolean(EAGER_PROPERTY);
+
+  private @Nullable Callable<T> resolver;
+  private @Nullable T value;
+
+  // Publishes the value once, written after the value has been set
+  private volatile boolean resolved;
+
+  /**
+   * Create a new lazy handle which resolves using the given resolver
+   * @param resolver Resolver to invoke on first use
+   * @throws Exception Resolution errors, only thrown when resolving eagerly
+   */
+  public LazyHandle(Callable<T> resolver) throws Exception {
+    this.resolver = resolver;
+
+    if (EAGER)
+      get();
+  }
+
+  /**
+   * Get the handle, which will be resolved if this is the first access
+   * @return Resolved handle, null if the resolver yielded null
+   * @throws Exception Resolution errors
+   */
+  public @Nullable T get() throws Exception {
+    // Fast path, already published
+    if (resolved)
+      return value;
+
+    synchronized (this) {
+      if (!resolved && resolver != null) {
+        value = resolver.call();
+
+        // Release the resolver and all of the state it captured
+        resolver = null;
+        resolved = true;
+      }
+
+      return value;
+    }
+  }
+
+  /**
+   * Checks whether this handle has already been resolved
+   */
+  public boolean isResolved() {
+    return resolved;
+  }
+}
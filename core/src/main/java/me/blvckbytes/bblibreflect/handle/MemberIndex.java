@@ -0,0 +1,251 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Indexes all declared members of a class once and buckets them by their
+  most commonly queried properties, so that predicate builders only have
+  to test a small set of candidates instead of copying and scanning the
+  whole member arrays on every lookup. All buckets keep declaration order.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MemberIndex {
+
+  // Indices are built lazily once per class and live as long as the class does
+  private static final TrackedClassValue<MemberIndex> indices = new TrackedClassValue<>(MemberIndex::new);
+
+  private final List<Field> fields;
+  private final Map<Class<?>, List<Field>> fieldsByType;
+  private final Map<String, List<Field>> fieldsByName;
+  private final Map<Boolean, List<Field>> fieldsByStatic;
+
+  private final List<Method> methods;
+  private final Map<Class<?>, List<Method>> methodsByReturnType;
+  private final Map<String, List<Method>> methodsByName;
+  private final Map<Boolean, List<Method>> methodsByStatic;
+  private final Map<List<Class<?>>, List<Method>> methodsBySignature;
+  private final Map<Integer, List<Method>> methodsByParameterCount;
+
+  private final List<Constructor<?>> constructors;
+  private final Map<List<Class<?>>, List<Constructor<?>>> constructorsBySignature;
+  private final Map<Integer, List<Constructor<?>>> constructorsByParameterCount;
+
+  private final List<Class<?>> classes;
+  private final Map<Boolean, List<Class<?>>> classesByStatic;
+
+  /**
+   * Create a new member index by bucketing all declared members of a class
+   * @param c Class to index
+   */
+  private MemberIndex(Class<?> c) {
+    this.fields = List.of(c.getDeclaredFields());
+    this.fieldsByType = new HashMap<>();
+    this.fieldsByName = new HashMap<>();
+    this.fieldsByStatic = new HashMap<>();
+
+    for (Field f : fields) {
+      bucket(fieldsByType, f.getType(), f);
+      bucket(fieldsByName, f.getName().toLowerCase(Locale.ROOT), f);
+      bucket(fieldsByStatic, Modifier.isStatic(f.getModifiers()), f);
+    }
+
+    this.methods = List.of(c.getDeclaredMethods());
+    this.methodsByReturnType = new HashMap<>();
+    this.methodsByName = new HashMap<>();
+    this.methodsByStatic = new HashMap<>();
+    this.methodsBySignature = new HashMap<>();
+    this.methodsByParameterCount = new HashMap<>();
+
+    for (Method m : methods) {
+      bucket(methodsByReturnType, m.getReturnType(), m);
+      bucket(methodsByName, m.getName().toLowerCase(Locale.ROOT), m);
+      bucket(methodsByStatic, Modifier.isStatic(m.getModifiers()), m);
+      bucket(methodsBySignature, List.of(m.getParameterTypes()), m);
+      bucket(methodsByParameterCount, m.getParameterCount(), m);
+    }
+
+    this.constructors = List.of(c.getDeclaredConstructors());
+    this.constructorsBySignature = new HashMap<>();
+    this.constructorsByParameterCount = new HashMap<>();
+
+    for (Constructor<?> ctor : constructors) {
+      bucket(constructorsBySignature, List.of(ctor.getParameterTypes()), ctor);
+      bucket(constructorsByParameterCount, ctor.getParameterCount(), ctor);
+    }
+
+    this.classes = List.of(c.getDeclaredClasses());
+    this.classesByStatic = new HashMap<>();
+
+    for (Class<?> inner : classes)
+      bucket(classesByStatic, Modifier.isStatic(inner.getModifiers()), inner);
+  }
+
+  /////////////////////////////////// Fields ////////////////////////////////////
+
+  /**
+   * Get all declared fields
+   */
+  public List<Field> getFields() {
+    return fields;
+  }
+
+  /**
+   * Get all declared fields of exactly the given type
+   * @param type Type of the field
+   */
+  public List<Field> getFieldsByType(Class<?> type) {
+    return fieldsByType.getOrDefault(type, List.of());
+  }
+
+  /**
+   * Get all declared fields of the given name, compared case insensitively
+   * @param name Name of the field
+   */
+  public List<Field> getFieldsByName(String name) {
+    return fieldsByName.getOrDefault(name.toLowerCase(Locale.ROOT), List.of());
+  }
+
+  /**
+   * Get all declared fields with the given static modifier presence
+   * @param isStatic Static modifier presence
+   */
+  public List<Field> getFieldsByStatic(boolean isStatic) {
+    return fieldsByStatic.getOrDefault(isStatic, List.of());
+  }
+
+  /////////////////////////////////// Methods ///////////////////////////////////
+
+  /**
+   * Get all declared methods
+   */
+  public List<Method> getMethods() {
+    return methods;
+  }
+
+  /**
+   * Get all declared methods with exactly the given return type
+   * @param type Return type of the method
+   */
+  public List<Method> getMethodsByReturnType(Class<?> type) {
+    return methodsByReturnType.getOrDefault(type, List.of());
+  }
+
+  /**
+   * Get all declared methods of the given name, compared case insensitively
+   * @param name Name of the method
+   */
+  public List<Method> getMethodsByName(String name) {
+    return methodsByName.getOrDefault(name.toLowerCase(Locale.ROOT), List.of());
+  }
+
+  /**
+   * Get all declared methods with the given static modifier presence
+   * @param isStatic Static modifier presence
+   */
+  public List<Method> getMethodsByStatic(boolean isStatic) {
+    return methodsByStatic.getOrDefault(isStatic, List.of());
+  }
+
+  /**
+   * Get all declared methods with exactly the given parameter types
+   * @param parameters Parameter types in sequence
+   */
+  public List<Method> getMethodsBySignature(List<Class<?>> parameters) {
+    return methodsBySignature.getOrDefault(parameters, List.of());
+  }
+
+  /**
+   * Get all declared methods with the given number of parameters
+   * @param count Number of parameters
+   */
+  public List<Method> getMethodsByParameterCount(int count) {
+    return methodsByParameterCount.getOrDefault(count, List.of());
+  }
+
+  ///////////////////////////////// Constructors ////////////////////////////////
+
+  /**
+   * Get all declared constructors
+   */
+  public List<Constructor<?>> getConstructors() {
+    return constructors;
+  }
+
+  /**
+   * Get all declared constructors with exactly the given parameter types
+   * @param parameters Parameter types in sequence
+   */
+  public List<Constructor<?>> getConstructorsBySignature(List<Class<?>> parameters) {
+    return constructorsBySignature.getOrDefault(parameters, List.of());
+  }
+
+  /**
+   * Get all declared constructors with the given number of parameters
+   * @param count Number of parameters
+   */
+  public List<Constructor<?>> getConstructorsByParameterCount(int count) {
+    return constructorsByParameterCount.getOrDefault(count, List.of());
+  }
+
+  ////////////////////////////////// Classes ////////////////////////////////////
+
+  /**
+   * Get all declared inner classes
+   */
+  public List<Class<?>> getClasses() {
+    return classes;
+  }
+
+  /**
+   * Get all declared inner classes with the given static modifier presence
+   * @param isStatic Static modifier presence
+   */
+  public List<Class<?>> getClassesByStatic(boolean isStatic) {
+    return classesByStatic.getOrDefault(isStatic, List.of());
+  }
+
+  /**
+   * Get the member index of a class, which will be built on first access
+   * @param c Class to get the index of
+   * @return Member index of the class
+   */
+  public static MemberIndex of(Class<?> c) {
+    return indices.get(c);
+  }
+
+  /**
+   * Remove all computed indices
+   */
+  public static void clearCaches() {
+    indices.clear();
+  }
+
+  /**
+   * Add a member to the bucket of a key, creating the bucket if absent
+   * @param buckets Buckets to add to
+   * @param key Key of the target bucket
+   * @param member Member to add
+   */
+  private static <K, T> void bucket(Map<K, List<T>> buckets, K key, T member) {
+    buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(member);
+  }
+}
@@ -0,0 +1,590 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/14/2022
+
+  Represents a reflection handle of any given method.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MethodHandle {
+
+  // Highest arity which has a specialized, varargs-free invocation path
+  private static final int MAX_SPECIALIZED_ARITY = 3;
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  // Constructor of the shape (Throwable)InvocationTargetException
+  private static final java.lang.invoke.MethodHandle CTOR_INVOCATION_TARGET_EXCEPTION;
+
+  static {
+    try {
+      CTOR_INVOCATION_TARGET_EXCEPTION = LOOKUP.findConstructor(
+        InvocationTargetException.class, MethodType.methodType(void.class, Throwable.class)
+      );
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Method method;
+  private final int arity;
+  private final boolean isStatic;
+
+  // Invoker of the shape (Object, Object...)Object without varargs collection,
+  // null if the arity isn't specialized or the JVM didn't allow to create it
+  private final @Nullable java.lang.invoke.MethodHandle invoker;
+
+  // Probe which invocations are reported to, null if profiling is disabled
+  private final @Nullable HandleProfiler.Probe probe;
+
+  /**
+   * Create a new method handle by locating the target method within
+   * the given target class by dispatching the predicate immediately.
+   * @param target Target class to search in
+   * @param predicate Predicate which chooses the matching method
+   * @throws NoSuchMethodException Thrown if the predicate didn't yield any results
+   */
+  public MethodHandle(Class<?> target, IMethodPredicate predicate) throws NoSuchMethodException {
+    this(requireLocated(locate(target, true, MemberIndex::getMethods, predicate)));
+  }
+
+  /**
+   * Create a new method handle on an already located method
+   * @param method Target method
+   */
+  MethodHandle(Method method) {
+    // Set the method accessible and hold a reference to it
+    this.method = method;
+    this.method.setAccessible(true);
+
+    this.arity = this.method.getParameterCount();
+    this.isStatic = Modifier.isStatic(this.method.getModifiers());
+    this.probe = HandleProfiler.createProbe(this.method);
+    this.invoker = HandleProfiler.instrument(compileInvoker(this.method), this.probe);
+  }
+
+  /**
+   * Invoke this method on an object instance
+   * @param o Target object to invoke on
+   * @param args Arguments to pass when invoking the method
+   * @return Method return value
+   */
+  public Object invoke(Object o, Object... args) throws InvocationTargetException, IllegalAccessException {
+    if (this.probe == null)
+      return this.method.invoke(o, args);
+
+    long start = this.probe.enter();
+
+    try {
+      return this.method.invoke(o, args);
+    } finally {
+      this.probe.exit(start);
+    }
+  }
+
+  /**
+   * Invoke this method without any arguments on an object instance
+   * @param o Target object to invoke on, ignored for static methods
+   * @return Method return value, null for void methods
+   * @throws InvocationTargetException Thrown if the method itself threw
+   * @throws IllegalArgumentException Thrown if the arguments don't fit the method's parameters
+   * @throws NullPointerException Thrown if the receiver of an instance method is null
+   */
+  public Object invoke0(Object o) throws InvocationTargetException, IllegalAccessException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.invoker == null || this.arity != 0)
+      return this.method.invoke(o);
+
+    requireReceiver(o);
+
+    try {
+      return (Object) this.invoker.invokeExact(o);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Invoke this method with a single argument on an object instance
+   * @param o Target object to invoke on, ignored for static methods
+   * @param a First argument
+   * @return Method return value, null for void methods
+   */
+  public Object invoke1(Object o, Object a) throws InvocationTargetException, IllegalAccessException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.invoker == null || this.arity != 1)
+      return this.method.invoke(o, a);
+
+    requireReceiver(o);
+
+    try {
+      return (Object) this.invoker.invokeExact(o, a);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Invoke this method with two arguments on an object instance
+   * @param o Target object to invoke on, ignored for static methods
+   * @param a First argument
+   * @param b Second argument
+   * @return Method return value, null for void methods
+   */
+  public Object invoke2(Object o, Object a, Object b) throws InvocationTargetException, IllegalAccessException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.invoker == null || this.arity != 2)
+      return this.method.invoke(o, a, b);
+
+    requireReceiver(o);
+
+    try {
+      return (Object) this.invoker.invokeExact(o, a, b);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Invoke this method with three arguments on an object instance
+   * @param o Target object to invoke on, ignored for static methods
+   * @param a First argument
+   * @param b Second argument
+   * @param c Third argument
+   * @return Method return value, null for void methods
+   */
+  public Object invoke3(Object o, Object a, Object b, Object c) throws InvocationTargetException, IllegalAccessException {
+    // Not compiled for this arity, let reflection handle it
+    if (this.invoker == null || this.arity != 3)
+      return this.method.invoke(o, a, b, c);
+
+    requireReceiver(o);
+
+    try {
+      return (Object) this.invoker.invokeExact(o, a, b, c);
+    } catch (Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  /**
+   * Bind this method to a functional interface, where the receiver - if the method is
+   * not static - is passed as the first argument of the interface's single abstract method.
+   * Bind once and keep the result, as every call spins up a new implementation.
+   * @param functionalInterface Interface to implement
+   * @return Implementation of the interface which directly calls this method
+   * @throws IllegalStateException Thrown if the interface's method doesn't fit this method
+   */
+  public <F> F bind(Class<F> functionalInterface) throws IllegalStateException {
+    return bind(functionalInterface, null, false);
+  }
+
+  /**
+   * Bind this method to a functional interface and a fixed receiver, where the interface's
+   * single abstract method takes exactly the parameters of this method. Bind once and
+   * keep the result, as every call spins up a new implementation.
+   * @param functionalInterface Interface to implement
+   * @param receiver Instance to invoke this method on, null for static methods
+   * @return Implementation of the interface which directly calls this method
+   * @throws IllegalStateException Thrown if the interface's method doesn't fit this method
+   */
+  public <F> F bind(Class<F> functionalInterface, @Nullable Object receiver) throws IllegalStateException {
+    return bind(functionalInterface, receiver, !Modifier.isStatic(this.method.getModifiers()));
+  }
+
+  /**
+   * Get the underlying method this handle operates on
+   */
+  Method getMethod() {
+    return this.method;
+  }
+
+  /**
+   * Get the probe which invocations are reported to, null if profiling is disabled
+   */
+  @Nullable HandleProfiler.Probe getProbe() {
+    return this.probe;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof Method))
+      return false;
+
+    return method.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return method.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return method.toString();
+  }
+
+  /**
+   * Wrap everything a target throws into an {@link InvocationTargetException}, so that it can be told
+   * apart from errors which occur while adapting arguments to it, just like reflection does
+   * @param target Direct method handle of a method or a constructor
+   * @return Target of the same type which only throws invocation target exceptions
+   */
+  static java.lang.invoke.MethodHandle wrapTargetExceptions(java.lang.invoke.MethodHandle target) {
+    java.lang.invoke.MethodHandle handler = MethodHandles.filterArguments(
+      MethodHandles.throwException(target.type().returnType(), InvocationTargetException.class),
+      0, CTOR_INVOCATION_TARGET_EXCEPTION
+    );
+
+    return MethodHandles.catchException(target, Throwable.class, handler);
+  }
+
+  /**
+   * Translate a throwable caught while calling a compiled invoker, which wraps it's target's
+   * exceptions, into the exception reflection would have thrown in the same situation
+   * @param t Caught throwable
+   * @return Exception to throw
+   * @throws IllegalArgumentException Thrown if the arguments couldn't be adapted to the target's parameters
+   */
+  static InvocationTargetException rethrow(Throwable t) throws IllegalArgumentException {
+    // Thrown by the target itself
+    if (t instanceof InvocationTargetException)
+      return (InvocationTargetException) t;
+
+    // Casting or unboxing an argument failed
+    if (t instanceof ClassCastException || t instanceof WrongMethodTypeException || t instanceof NullPointerException)
+      throw new IllegalArgumentException("Arguments do not fit the parameters: " + t.getMessage(), t);
+
+    if (t instanceof RuntimeException)
+      throw (RuntimeException) t;
+
+    if (t instanceof Error)
+      throw (Error) t;
+
+    return new InvocationTargetException(t);
+  }
+
+  /**
+   * Require the receiver of an instance method to be present
+   * @param o Receiver to check
+   * @throws NullPointerException Thrown if the method is not static and the receiver is null
+   */
+  private void requireReceiver(@Nullable Object o) throws NullPointerException {
+    if (o == null && !this.isStatic)
+      throw new NullPointerException("Cannot invoke " + method + " on a null receiver");
+  }
+
+  /**
+   * Require a located method to be present
+   * @param m Located method, null if there was no result
+   * @return Located method
+   * @throws NoSuchMethodException Thrown if the method couldn't be located
+   */
+  private static Method requireLocated(@Nullable Method m) throws NoSuchMethodException {
+    if (m == null)
+      throw new NoSuchMethodException("Could not satisfy the method predicate.");
+
+    return m;
+  }
+
+  /**
+   * Locate a method within the given target class by dispatching the predicate on
+   * the candidates the member index yields for each class of the hierarchy
+   * @param target Target class to search in
+   * @param walkHierarchy Whether to also search through the superclasses
+   * @param candidates Selects the candidates to test from a class's member index
+   * @param predicate Predicate which chooses the matching method
+   * @return Located method, null if the predicate didn't yield any results
+   */
+  static @Nullable Method locate(
+    Class<?> target,
+    boolean walkHierarchy,
+    Function<MemberIndex, List<Method>> candidates,
+    IMethodPredicate predicate
+  ) {
+    if (target == null)
+      throw new IllegalStateException("Target has to be present.");
+
+    // Walk up the hierarchy chain
+    Class<?> curr = target;
+    while (curr != null && curr != Object.class) {
+
+      // Loop all candidate methods of the current class
+      for (Method m : candidates.apply(MemberIndex.of(curr))) {
+
+        // Predicate match, take method
+        if (predicate.matches(m))
+          return m;
+      }
+
+      if (!walkHierarchy)
+        break;
+
+      curr = curr.getSuperclass();
+    }
+
+    // The predicate matched on none of them
+    return null;
+  }
+
+  /**
+   * Bind this method to a functional interface by the lambda metafactory, which either calls the
+   * method directly, if it's reachable from the interface's class loader, or through an invoker bridge
+   * @param functionalInterface Interface to implement
+   * @param receiver Instance to bind to, only used if isBound is true
+   * @param isBound Whether to bind the receiver or to take it as the first argument
+   * @return Implementation of the interface
+   * @throws IllegalStateException Thrown if the interface's method doesn't fit this method
+   */
+  private <F> F bind(Class<F> functionalInterface, @Nullable Object receiver, boolean isBound) throws IllegalStateException {
+    Method sam = findSingleAbstractMethod(functionalInterface);
+    boolean isStatic = Modifier.isStatic(this.method.getModifiers());
+
+    if (isBound && receiver == null)
+      throw new IllegalStateException("Cannot bind " + method + " to a null receiver");
+
+    // Unbound instance methods take their receiver as the first argument
+    int expectedArity = this.arity + (isStatic || isBound ? 0 : 1);
+    if (sam.getParameterCount() != expectedArity)
+      throw new IllegalStateException("The method " + sam + " has to take " + expectedArity + " parameters to bind to " + method);
+
+    try {
+      java.lang.invoke.MethodHandle target = LOOKUP.unreflect(this.method);
+
+      // Call the method directly, just like the compiler does for method references, unless
+      // it's being profiled, as the metafactory only accepts direct handles
+      if (this.probe == null && isReachable(this.method)) {
+        // A bound receiver is captured, so it's not part of the implemented signature
+        MethodType instantiatedType = specialize(sam, isBound ? target.type().dropParameterTypes(0, 1) : target.type());
+
+        if (instantiatedType != null)
+          return metafactory(functionalInterface, sam, target, instantiatedType, isBound ? receiver : null);
+      }
+
+      // Capture the accessible handle and pass the arguments through a bridge instead
+      java.lang.invoke.MethodHandle invoker = HandleProfiler.instrument(target, this.probe);
+      invoker = isBound ? invoker.bindTo(receiver) : invoker;
+      int arguments = invoker.type().parameterCount();
+
+      if (arguments > InvokerBridge.MAX_ARGUMENTS)
+        throw new IllegalStateException("Cannot bind " + method + ", as it takes more than " + InvokerBridge.MAX_ARGUMENTS + " arguments");
+
+      java.lang.invoke.MethodHandle bridge = LOOKUP.findStatic(
+        InvokerBridge.class, "invoke",
+        MethodType.genericMethodType(arguments).insertParameterTypes(0, java.lang.invoke.MethodHandle.class)
+      );
+
+      return metafactory(
+        functionalInterface, sam, bridge,
+        MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()),
+        invoker.asType(MethodType.genericMethodType(arguments))
+      );
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Could not bind " + method + " to " + functionalInterface.getName(), e);
+    }
+  }
+
+  /**
+   * Implement a functional interface by the lambda metafactory
+   * @param functionalInterface Interface to implement
+   * @param sam Single abstract method of the interface
+   * @param implMethod Direct method handle to call
+   * @param instantiatedType Signature of the interface's method, as it's implemented
+   * @param captured Value passed as the first argument of every call, null if there's none
+   * @return Implementation of the interface
+   * @throws Throwable Thrown if the interface cannot be implemented this way
+   */
+  static <F> F metafactory(
+    Class<F> functionalInterface,
+    Method sam,
+    java.lang.invoke.MethodHandle implMethod,
+    MethodType instantiatedType,
+    @Nullable Object captured
+  ) throws Throwable {
+    // Define the implementation where the interface is visible, which is this library
+    // for shared interfaces (java.util.function, for example) and the interface's
+    // module otherwise, as it might be loaded by another plugin's class loader
+    MethodHandles.Lookup caller = isVisible(functionalInterface)
+      ? LOOKUP
+      : MethodHandles.privateLookupIn(functionalInterface, LOOKUP);
+
+    MethodType invokedType = MethodType.methodType(functionalInterface);
+
+    if (captured != null)
+      invokedType = invokedType.appendParameterTypes(implMethod.type().parameterType(0));
+
+    CallSite site = LambdaMetafactory.metafactory(
+      caller, sam.getName(), invokedType,
+      MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()),
+      implMethod, instantiatedType
+    );
+
+    Object result = captured != null ? site.getTarget().invoke(captured) : site.getTarget().invoke();
+    return functionalInterface.cast(result);
+  }
+
+  /**
+   * Specialize the signature of an interface's method to the types of the method it's bound
+   * to, which the lambda metafactory requires in order to call it without any casts
+   * @param sam Single abstract method of the interface
+   * @param implType Signature of the method, without a bound receiver
+   * @return Specialized signature, null if the method's types are not specializations of the interface's types
+   */
+  private static @Nullable MethodType specialize(Method sam, MethodType implType) {
+    MethodType boxed = implType.wrap();
+    Class<?>[] samTypes = sam.getParameterTypes();
+
+    for (int i = 0; i < samTypes.length; i++) {
+      Class<?> type = samTypes[i].isPrimitive() ? implType.parameterType(i) : boxed.parameterType(i);
+
+      if (!samTypes[i].isAssignableFrom(type))
+        return null;
+    }
+
+    // Void methods of the interface discard the result
+    Class<?> samReturnType = sam.getReturnType();
+    if (samReturnType == void.class)
+      return boxed.changeReturnType(void.class);
+
+    Class<?> returnType = samReturnType.isPrimitive() ? implType.returnType() : boxed.returnType();
+    if (implType.returnType() == void.class || !samReturnType.isAssignableFrom(returnType))
+      return null;
+
+    return boxed.changeReturnType(returnType);
+  }
+
+  /**
+   * Checks whether a method may be called directly by classes of any other package,
+   * which requires it, it's class and all of the types in it's signature to be public
+   * @param m Method to check
+   * @return True if the method is reachable from everywhere
+   */
+  private static boolean isReachable(Method m) {
+    if (!Modifier.isPublic(m.getModifiers()) || !isPublicType(m.getDeclaringClass()) || !isPublicType(m.getReturnType()))
+      return false;
+
+    for (Class<?> parameterType : m.getParameterTypes()) {
+      if (!isPublicType(parameterType))
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether a type and all of it's enclosing types are public
+   * @param c Type to check
+   * @return True if the type is public, primitives and arrays of public types included
+   */
+  private static boolean isPublicType(Class<?> c) {
+    while (c.isArray())
+      c = c.getComponentType();
+
+    if (c.isPrimitive())
+      return true;
+
+    for (Class<?> current = c; current != null; current = current.getEnclosingClass()) {
+      if (!Modifier.isPublic(current.getModifiers()))
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Find the single abstract method of a functional interface
+   * @param functionalInterface Interface to search in
+   * @return Single abstract method
+   * @throws IllegalStateException Thrown if the type is not a functional interface
+   */
+  static Method findSingleAbstractMethod(Class<?> functionalInterface) throws IllegalStateException {
+    if (!functionalInterface.isInterface())
+      throw new IllegalStateException(functionalInterface.getName() + " is not an interface");
+
+    Method[] abstractMethods = Arrays.stream(functionalInterface.getMethods())
+      .filter(m -> Modifier.isAbstract(m.getModifiers()) && !isObjectMethod(m))
+      .toArray(Method[]::new);
+
+    if (abstractMethods.length != 1)
+      throw new IllegalStateException(functionalInterface.getName() + " is not a functional interface");
+
+    return abstractMethods[0];
+  }
+
+  /**
+   * Checks whether a class is visible from this library's class loader
+   * @param c Class to check
+   * @return True if the class resolves to the same class from this library
+   */
+  private static boolean isVisible(Class<?> c) {
+    try {
+      return Class.forName(c.getName(), false, MethodHandle.class.getClassLoader()) == c;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Checks whether an interface method redeclares a public method of Object
+   * @param m Method to check
+   * @return True if Object declares a method of the same signature
+   */
+  private static boolean isObjectMethod(Method m) {
+    try {
+      Object.class.getMethod(m.getName(), m.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Try to compile an invoker of the shape (Object, Object...)Object, where the number of trailing
+   * objects equals the method's arity and which only throws InvocationTargetExceptions itself
+   * @param m Accessible method to compile for
+   * @return Compiled invoker, null if the arity isn't specialized or the JVM refused to create it
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileInvoker(Method m) {
+    int arity = m.getParameterCount();
+
+    if (arity > MAX_SPECIALIZED_ARITY)
+      return null;
+
+    try {
+      java.lang.invoke.MethodHandle invoker = wrapTargetExceptions(LOOKUP.unreflect(m));
+
+      // Static methods take no instance, ignore the passed object
+      if (Modifier.isStatic(m.getModifiers()))
+        invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+
+      return invoker.asType(MethodType.genericMethodType(arity + 1));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+}
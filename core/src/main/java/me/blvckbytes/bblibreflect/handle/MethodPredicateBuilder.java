@@ -2,10 +2,12 @@ package me.blvckbytes.bblibreflect.handle;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /*
@@ -30,7 +32,6 @@ import java.util.List;
 */
 public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle> {
 
-  private final ClassHandle targetClass;
   private @Nullable Boolean isStatic;
   private @Nullable Boolean isPublic;
   private @Nullable String name;
@@ -44,7 +45,7 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle> {
    * @param targetClass Class to search through
    */
   public MethodPredicateBuilder(ClassHandle targetClass) {
-    this.targetClass = targetClass;
+    super(targetClass);
     this.isStatic = false;
     this.allowSuperclass = false;
     this.parameterTypes = new ArrayList<>();
@@ -222,31 +223,21 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle> {
   ////////////////////////////////// Retrieval //////////////////////////////////
 
   @Override
-  public @Nullable MethodHandle optional() {
-    try {
-      return required();
-    }
-
-    catch (IncompletePredicateBuilderException e) {
-      throw e;
-    }
-
-    catch (Exception e) {
-      return null;
-    }
+  protected @Nullable MethodHandle find() {
+    Method located = MethodHandle.locate(targetClass.get(), allowSuperclass, this::selectCandidates, buildPredicate());
+    return located == null ? null : new MethodHandle(located);
   }
 
-  @Override
-  public MethodHandle required() throws Exception {
+  /**
+   * Build the predicate which matches methods against all parameters of this builder
+   * @throws IncompletePredicateBuilderException Thrown if neither a name, a return type nor parameter types have been specified
+   */
+  private IMethodPredicate buildPredicate() {
     // At least a name , a return type or parameter types are required
     if (name == null && returnType == null && parameterTypes.size() == 0)
       throw new IncompletePredicateBuilderException();
 
-    return new MethodHandle(targetClass.get(), m -> {
-
-      // Is inside of another class but superclass walking is disabled
-      if (!allowSuperclass && m.getDeclaringClass() != targetClass.get())
-        return false;
+    return m -> {
 
       // Static modifier mismatch
       if (isStatic != null && Modifier.isStatic(m.getModifiers()) != isStatic)
@@ -283,7 +274,13 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle> {
       // Check generic return parameters, if applicable
       int numGenerics = returnGenerics.size();
       if (numGenerics > 0) {
-        Type[] types = ((ParameterizedType) m.getGenericReturnType()).getActualTypeArguments();
+        Type genericType = m.getGenericReturnType();
+
+        // Raw types don't carry any type parameters
+        if (!(genericType instanceof ParameterizedType))
+          return false;
+
+        Type[] types = ((ParameterizedType) genericType).getActualTypeArguments();
 
         // Not enough generic type parameters available
         if (types.length < numGenerics)
@@ -291,12 +288,70 @@ public class MethodPredicateBuilder extends APredicateBuilder<MethodHandle> {
 
         // Type parameters need to match in sequence
         for (int i = 0; i < numGenerics; i++) {
-          if (!returnGenerics.get(i).matches((Class<?>) types[i]))
+          // Wildcards, type variables and nested parameterized types are no plain classes
+          if (!(types[i] instanceof Class<?>) || !returnGenerics.get(i).matches((Class<?>) types[i]))
             return false;
         }
       }
 
       return true;
-    });
+    };
+  }
+
+  @Override
+  protected NoSuchMethodException createNotFoundException() {
+    return new NoSuchMethodException("Could not satisfy the method predicate.");
+  }
+
+  @Override
+  protected @Nullable MethodHandle bind(String member) {
+    Method method = ResolutionCache.findMethod(targetClass.get(), allowSuperclass, member);
+
+    if (method == null || !buildPredicate().matches(method))
+      return null;
+
+    return new MethodHandle(method);
+  }
+
+  @Override
+  protected String describe(MethodHandle result) {
+    return ResolutionCache.describe(result.getMethod());
+  }
+
+  @Override
+  protected @Nullable HandleProfiler.Probe getProbe(MethodHandle result) {
+    return result.getProbe();
+  }
+
+  @Override
+  protected List<Object> getSignature() {
+    return Arrays.asList(getClass(), isStatic, isPublic, name, returnType, new ArrayList<>(returnGenerics), new ArrayList<>(parameterTypes), allowSuperclass);
+  }
+
+  /**
+   * Select the smallest known bucket of candidates from a member index
+   * @param index Member index of the currently searched class
+   * @return Candidates to dispatch the predicate on
+   */
+  private List<Method> selectCandidates(MemberIndex index) {
+    if (name != null)
+      return index.getMethodsByName(name);
+
+    if (parameterTypes.size() > 0) {
+      List<Class<?>> signature = ComparableType.toExactSignature(parameterTypes);
+
+      if (signature != null)
+        return index.getMethodsBySignature(signature);
+
+      return index.getMethodsByParameterCount(parameterTypes.size());
+    }
+
+    if (returnType != null && returnType.isExact())
+      return index.getMethodsByReturnType(returnType.getType());
+
+    if (isStatic != null)
+      return index.getMethodsByStatic(isStatic);
+
+    return index.getMethods();
   }
 }
@@ -0,0 +1,184 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Describes the field layout of a packet class once, including inherited fields,
+  and offers precompiled accessors for every field, so that modifiers can read
+  intercepted packets by position, name or type without any reflection of their
+  own. Fields are ordered just like field predicates encounter them.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PacketSchema {
+
+  // Schemas are built lazily once per class and live as long as the class does
+  private static final TrackedClassValue<PacketSchema> schemas = new TrackedClassValue<>(PacketSchema::new);
+
+  @Getter
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class Entry {
+    // Position within all fields of the schema
+    private final int index;
+    private final String name;
+    private final Class<?> type;
+
+    // Generic type arguments, Object for arguments which are no plain classes
+    private final List<Class<?>> generics;
+
+    private final FieldHandle handle;
+
+    @Override
+    public String toString() {
+      StringJoiner arguments = new StringJoiner(", ", "<", ">").setEmptyValue("");
+      generics.forEach(generic -> arguments.add(generic.getName()));
+      return index + ": " + type.getName() + arguments + " " + name;
+    }
+  }
+
+  @Getter private final Class<?> type;
+  @Getter private final List<Entry> fields;
+
+  private final Map<Class<?>, List<Entry>> fieldsByType;
+  private final Map<String, Entry> fieldsByName;
+
+  /**
+   * Create a new schema by describing all instance fields of a class's hierarchy
+   * @param type Class to describe
+   */
+  private PacketSchema(Class<?> type) {
+    this.type = type;
+
+    List<Entry> fields = new ArrayList<>();
+    this.fieldsByType = new HashMap<>();
+    this.fieldsByName = new HashMap<>();
+
+    // Walk up the hierarchy chain, the own fields come first
+    for (Class<?> curr = type; curr != null && curr != Object.class; curr = curr.getSuperclass()) {
+      for (Field f : MemberIndex.of(curr).getFieldsByStatic(false)) {
+        Entry entry = new Entry(fields.size(), f.getName(), f.getType(), getGenerics(f), new FieldHandle(f));
+        fields.add(entry);
+
+        fieldsByType.computeIfAbsent(f.getType(), k -> new ArrayList<>()).add(entry);
+
+        // Shadowed fields of superclasses are only reachable by type or index
+        fieldsByName.putIfAbsent(f.getName(), entry);
+      }
+    }
+
+    this.fields = Collections.unmodifiableList(fields);
+  }
+
+  /**
+   * Get a field by it's position within all fields
+   * @param index Position of the field
+   * @return Field entry, null if out of range
+   */
+  public @Nullable Entry getField(int index) {
+    return index < 0 || index >= fields.size() ? null : fields.get(index);
+  }
+
+  /**
+   * Get a field by it's name
+   * @param name Name of the field
+   * @return Field entry, null if there is no field with this name
+   */
+  public @Nullable Entry getField(String name) {
+    return fieldsByName.get(name);
+  }
+
+  /**
+   * Get a field by it's type and it's position among all fields of this type
+   * @param type Exact type of the field
+   * @param index Position among fields of the same type, zero for the first
+   * @return Field entry, null if there is no such field
+   */
+  public @Nullable Entry getField(Class<?> type, int index) {
+    List<Entry> entries = getFieldsOfType(type);
+    return index < 0 || index >= entries.size() ? null : entries.get(index);
+  }
+
+  /**
+   * Get all fields of exactly the given type
+   * @param type Exact type of the fields
+   * @return List of field entries in schema order
+   */
+  public List<Entry> getFieldsOfType(Class<?> type) {
+    return fieldsByType.getOrDefault(type, List.of());
+  }
+
+  @Override
+  public String toString() {
+    return type.getName() + fields;
+  }
+
+  /**
+   * Get the schema of a class, which will be built on first access
+   * @param c Class to get the schema of
+   * @return Schema of the class
+   */
+  public static PacketSchema of(Class<?> c) {
+    return schemas.get(c);
+  }
+
+  /**
+   * Get the schema of a class, which will be built on first access
+   * @param c Class to get the schema of
+   * @return Schema of the class
+   */
+  public static PacketSchema of(ClassHandle c) {
+    return of(c.get());
+  }
+
+  /**
+   * Remove all computed schemas
+   */
+  public static void clearCaches() {
+    schemas.clear();
+  }
+
+  /**
+   * Get the generic type arguments of a field as plain classes
+   * @param f Field to get the arguments of
+   * @return List of arguments, empty if the field's type is not parameterized
+   */
+  private static List<Class<?>> getGenerics(Field f) {
+    Type generic = f.getGenericType();
+
+    if (!(generic instanceof ParameterizedType))
+      return List.of();
+
+    List<Class<?>> generics = new ArrayList<>();
+
+    for (Type argument : ((ParameterizedType) generic).getActualTypeArguments()) {
+      if (argument instanceof Class)
+        generics.add((Class<?>) argument);
+      else if (argument instanceof ParameterizedType)
+        generics.add((Class<?>) ((ParameterizedType) argument).getRawType());
+      else
+        generics.add(Object.class);
+    }
+
+    return Collections.unmodifiableList(generics);
+  }
+}
@@ -0,0 +1,344 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Persists the members predicate builders resolved to by their signatures, so
+  that later boots on the same server build can bind handles directly by name
+  and descriptor instead of searching through the target classes again. The
+  whole cache is discarded as soon as the key it was created for mismatches.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ResolutionCache {
+
+  // Name of the property which holds the key the cache has been created for
+  private static final String KEY_PROPERTY = "@key";
+
+  // Cache which is currently consulted by all predicate builders, if any
+  private static volatile @Nullable ResolutionCache active;
+
+  private final File file;
+  private final String key;
+  private final Map<String, String> entries;
+  private volatile boolean dirty;
+
+  /**
+   * Create a new resolution cache and load it's entries from disk, if the file
+   * exists and has been created for the same key, otherwise start out empty
+   * @param file File to persist the cache in
+   * @param key Key which identifies the server build the members belong to
+   */
+  public ResolutionCache(File file, String key) {
+    this.file = file;
+    this.key = key;
+    this.entries = new ConcurrentHashMap<>();
+    this.load();
+  }
+
+  /**
+   * Get the member which has previously been resolved for a predicate
+   * @param target Class the predicate searched through
+   * @param signature Signature of the predicate
+   * @return Member description, null if not cached
+   */
+  public @Nullable String get(ClassHandle target, List<Object> signature) {
+    return entries.get(makeEntryKey(target, signature));
+  }
+
+  /**
+   * Store the member a predicate resolved to
+   * @param target Class the predicate searched through
+   * @param signature Signature of the predicate
+   * @param member Member description, null to remove the entry
+   */
+  public void put(ClassHandle target, List<Object> signature, @Nullable String member) {
+    String entryKey = makeEntryKey(target, signature);
+
+    if (member == null) {
+      if (entries.remove(entryKey) != null)
+        dirty = true;
+      return;
+    }
+
+    if (!member.equals(entries.put(entryKey, member)))
+      dirty = true;
+  }
+
+  /**
+   * Write all entries to disk, if there have been changes since the last save
+   * @throws IOException Errors while writing the file
+   */
+  public void save() throws IOException {
+    if (!dirty)
+      return;
+
+    Properties properties = new Properties();
+    properties.putAll(entries);
+    properties.setProperty(KEY_PROPERTY, key);
+
+    File parent = file.getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs())
+      throw new IOException("Could not create the directory " + parent);
+
+    // Write next to the file and swap it in afterwards, so that a crash while
+    // writing never leaves a truncated cache behind for the next boot to load
+    File temp = new File(file.getPath() + ".tmp");
+
+    try (
+      Writer writer = new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8)
+    ) {
+      properties.store(writer, "Resolved reflection members, safe to delete");
+    }
+
+    try {
+      Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      // The file system cannot swap atomically, still only replace once fully written
+      Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    dirty = false;
+  }
+
+  /**
+   * Load all entries from disk, if the file has been created for the same key
+   */
+  private void load() {
+    // Nothing has been persisted yet
+    if (!file.exists()) {
+      dirty = true;
+      return;
+    }
+
+    Properties properties = new Properties();
+
+    try (
+      Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)
+    ) {
+      properties.load(reader);
+    } catch (IOException e) {
+      dirty = true;
+      return;
+    }
+
+    // Created for another server build, all entries are stale
+    if (!key.equals(properties.getProperty(KEY_PROPERTY))) {
+      dirty = true;
+      return;
+    }
+
+    for (String name : properties.stringPropertyNames()) {
+      if (!name.equals(KEY_PROPERTY))
+        entries.put(name, properties.getProperty(name));
+    }
+  }
+
+  /**
+   * Create the key of an entry by combining the target with the predicate's signature
+   * @param target Class the predicate searched through
+   * @param signature Signature of the predicate
+   * @return Entry key
+   */
+  private String makeEntryKey(ClassHandle target, List<Object> signature) {
+    return target.get().getName() + " " + signature;
+  }
+
+  //=========================================================================//
+  //                              Active Instance                            //
+  //=========================================================================//
+
+  /**
+   * Get the cache which is currently consulted by all predicate builders
+   * @return Active cache, null if there is none
+   */
+  public static @Nullable ResolutionCache getActive() {
+    return active;
+  }
+
+  /**
+   * Set the cache which is to be consulted by all predicate builders
+   * @param cache Cache to activate, null to disable caching
+   */
+  public static void setActive(@Nullable ResolutionCache cache) {
+    active = cache;
+  }
+
+  //=========================================================================//
+  //                               Descriptions                              //
+  //=========================================================================//
+
+  /**
+   * Describe a field by it's declaring class and name
+   * @param f Field to describe
+   */
+  static String describe(Field f) {
+    return f.getDeclaringClass().getName() + "#" + f.getName();
+  }
+
+  /**
+   * Describe a method by it's declaring class, name and descriptor
+   * @param m Method to describe
+   */
+  static String describe(Method m) {
+    return m.getDeclaringClass().getName() + "#" + m.getName() + makeDescriptor(m.getReturnType(), m.getParameterTypes());
+  }
+
+  /**
+   * Describe a constructor by it's declaring class and descriptor
+   * @param c Constructor to describe
+   */
+  static String describe(Constructor<?> c) {
+    return c.getDeclaringClass().getName() + "#<init>" + makeDescriptor(void.class, c.getParameterTypes());
+  }
+
+  /**
+   * Describe a class by it's name
+   * @param c Class to describe
+   */
+  static String describe(Class<?> c) {
+    return c.getName();
+  }
+
+  //=========================================================================//
+  //                                 Lookups                                 //
+  //=========================================================================//
+
+  /**
+   * Find a field by it's description
+   * @param target Class the predicate searched through
+   * @param walkHierarchy Whether the field may be declared by a superclass
+   * @param member Member description
+   * @return Field, null if it doesn't exist (anymore)
+   */
+  static @Nullable Field findField(Class<?> target, boolean walkHierarchy, String member) {
+    String[] parts = member.split("#", 2);
+    Class<?> owner = parts.length == 2 ? findOwner(target, walkHierarchy, parts[0]) : null;
+
+    if (owner == null)
+      return null;
+
+    for (Field f : MemberIndex.of(owner).getFieldsByName(parts[1])) {
+      if (f.getName().equals(parts[1]))
+        return f;
+    }
+
+    return null;
+  }
+
+  /**
+   * Find a method by it's description
+   * @param target Class the predicate searched through
+   * @param walkHierarchy Whether the method may be declared by a superclass
+   * @param member Member description
+   * @return Method, null if it doesn't exist (anymore)
+   */
+  static @Nullable Method findMethod(Class<?> target, boolean walkHierarchy, String member) {
+    int ownerEnd = member.indexOf('#');
+    int nameEnd = member.indexOf('(');
+
+    if (ownerEnd < 0 || nameEnd < ownerEnd)
+      return null;
+
+    Class<?> owner = findOwner(target, walkHierarchy, member.substring(0, ownerEnd));
+
+    if (owner == null)
+      return null;
+
+    for (Method m : MemberIndex.of(owner).getMethodsByName(member.substring(ownerEnd + 1, nameEnd))) {
+      if (describe(m).equals(member))
+        return m;
+    }
+
+    return null;
+  }
+
+  /**
+   * Find a constructor by it's description
+   * @param target Class the predicate searched through
+   * @param member Member description
+   * @return Constructor, null if it doesn't exist (anymore)
+   */
+  static @Nullable Constructor<?> findConstructor(Class<?> target, String member) {
+    for (Constructor<?> c : MemberIndex.of(target).getConstructors()) {
+      if (describe(c).equals(member))
+        return c;
+    }
+
+    return null;
+  }
+
+  /**
+   * Find an inner class by it's description
+   * @param target Class the predicate searched through
+   * @param member Member description
+   * @return Class, null if it doesn't exist (anymore)
+   */
+  static @Nullable Class<?> findClass(Class<?> target, String member) {
+    for (Class<?> curr = target; curr != null && curr != Object.class; curr = curr.getSuperclass()) {
+      for (Class<?> c : MemberIndex.of(curr).getClasses()) {
+        if (c.getName().equals(member))
+          return c;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Find the class within the target's hierarchy which has the given name
+   * @param target Class to start at
+   * @param walkHierarchy Whether to also search through the superclasses
+   * @param name Name of the class
+   * @return Class, null if it's not within the hierarchy
+   */
+  private static @Nullable Class<?> findOwner(Class<?> target, boolean walkHierarchy, String name) {
+    for (Class<?> curr = target; curr != null && curr != Object.class; curr = curr.getSuperclass()) {
+      if (curr.getName().equals(name))
+        return curr;
+
+      if (!walkHierarchy)
+        break;
+    }
+
+    return null;
+  }
+
+  /**
+   * Create a JVM method descriptor from a return and parameter types
+   * @param returnType Return type
+   * @param parameterTypes Parameter types
+   * @return Method descriptor
+   */
+  private static String makeDescriptor(Class<?> returnType, Class<?>[] parameterTypes) {
+    return MethodType.methodType(returnType, parameterTypes).toMethodDescriptorString();
+  }
+}
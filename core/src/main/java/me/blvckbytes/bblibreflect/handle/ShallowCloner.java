@@ -0,0 +1,237 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Creates shallow copies of instances of a class by allocating a new instance
+  without invoking any constructor and copying all instance fields through
+  precompiled accessors, primitives without boxing. Referenced objects are
+  shared between the original and the copy. Records are immutable and thus
+  never copied, but returned as is.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ShallowCloner {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  // Allocator of the shape (Class)Object which skips constructors, null if unavailable
+  private static final @Nullable java.lang.invoke.MethodHandle ALLOCATOR = compileAllocator();
+
+  // Cloners are built lazily once per class and live as long as the class does
+  private static final TrackedClassValue<ShallowCloner> cloners = new TrackedClassValue<>(ShallowCloner::new);
+
+  private final Class<?> type;
+
+  // Whether instances are immutable and can thus be shared instead of copied
+  private final boolean immutable;
+
+  // Creates a new blank instance of the shape ()Object, null if there's no way to do so
+  private final @Nullable java.lang.invoke.MethodHandle instantiator;
+
+  // Copies the value of a field of the shape (Object target, Object source)void
+  private final java.lang.invoke.MethodHandle[] copiers;
+
+  // Reason why the copiers could not be compiled, null if they could
+  private final @Nullable IllegalStateException failure;
+
+  /**
+   * Create a new cloner by compiling copiers for all instance fields of a class's hierarchy
+   * @param type Class to clone instances of
+   */
+  private ShallowCloner(Class<?> type) {
+    this.type = type;
+
+    this.immutable = FieldHandle.isRecord(type);
+
+    if (this.immutable) {
+      this.instantiator = null;
+      this.copiers = new java.lang.invoke.MethodHandle[0];
+      this.failure = null;
+      return;
+    }
+
+    this.instantiator = compileInstantiator(type);
+
+    java.lang.invoke.MethodHandle[] copiers = new java.lang.invoke.MethodHandle[0];
+    IllegalStateException failure = null;
+
+    // Keep the failure, as class values are computed again on every access if computing throws
+    try {
+      copiers = compileCopiers(type);
+    } catch (IllegalStateException e) {
+      failure = e;
+    }
+
+    this.copiers = copiers;
+    this.failure = failure;
+  }
+
+  /**
+   * Create a shallow copy of an instance
+   * @param o Instance to copy, has to be exactly of this cloner's type
+   * @return Copy of the instance, or the instance itself if it's immutable
+   * @throws IllegalStateException Thrown if the instance is of another type or the type cannot be instantiated
+   */
+  public Object copy(Object o) throws IllegalStateException {
+    if (o.getClass() != this.type)
+      throw new IllegalStateException("Cannot copy " + o.getClass() + " with the cloner of " + this.type);
+
+    if (this.immutable)
+      return o;
+
+    if (this.failure != null)
+      throw new IllegalStateException("Cannot copy " + this.type, this.failure);
+
+    if (this.instantiator == null)
+      throw new IllegalStateException("Cannot instantiate " + this.type);
+
+    try {
+      Object copy = (Object) this.instantiator.invokeExact();
+
+      for (java.lang.invoke.MethodHandle copier : this.copiers)
+        copier.invokeExact(copy, o);
+
+      return copy;
+    } catch (Throwable t) {
+      if (t instanceof RuntimeException)
+        throw (RuntimeException) t;
+
+      if (t instanceof Error)
+        throw (Error) t;
+
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Get the cloner of a class, which will be built on first access
+   * @param c Class to get the cloner of
+   * @return Cloner of the class
+   */
+  public static ShallowCloner of(Class<?> c) {
+    return cloners.get(c);
+  }
+
+  /**
+   * Create a shallow copy of an instance by the cloner of it's class
+   * @param o Instance to copy
+   * @return Copy of the instance, or the instance itself if it's immutable
+   * @throws IllegalStateException Thrown if the instance's type cannot be instantiated
+   */
+  public static Object copyOf(Object o) throws IllegalStateException {
+    return of(o.getClass()).copy(o);
+  }
+
+  /**
+   * Remove all computed cloners
+   */
+  public static void clearCaches() {
+    cloners.clear();
+  }
+
+  /**
+   * Compile copiers for all instance fields of a class's hierarchy
+   * @param type Class to compile for
+   * @return Compiled copiers
+   * @throws IllegalStateException Thrown if the JVM refused to create any of them
+   */
+  private static java.lang.invoke.MethodHandle[] compileCopiers(Class<?> type) throws IllegalStateException {
+    List<java.lang.invoke.MethodHandle> copiers = new ArrayList<>();
+
+    // Walk up the hierarchy chain, as inherited fields make up the instance too
+    for (Class<?> curr = type; curr != null && curr != Object.class; curr = curr.getSuperclass()) {
+      for (Field f : MemberIndex.of(curr).getFieldsByStatic(false))
+        copiers.add(compileCopier(f));
+    }
+
+    return copiers.toArray(java.lang.invoke.MethodHandle[]::new);
+  }
+
+  /**
+   * Compile a copier of the shape (Object target, Object source)void for a field,
+   * which passes the value from the getter into the setter using the field's own type
+   * @param f Field to compile for
+   * @return Compiled copier
+   * @throws IllegalStateException Thrown if the JVM refused to create it
+   */
+  private static java.lang.invoke.MethodHandle compileCopier(Field f) throws IllegalStateException {
+    try {
+      f.setAccessible(true);
+
+      java.lang.invoke.MethodHandle getter = LOOKUP.unreflectGetter(f);
+      java.lang.invoke.MethodHandle setter = LOOKUP.unreflectSetter(f);
+
+      return MethodHandles.filterArguments(setter, 1, getter)
+        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not compile a copier for " + f, e);
+    }
+  }
+
+  /**
+   * Compile an instantiator of the shape ()Object for a class, preferring to skip
+   * constructors entirely and falling back to an empty constructor otherwise
+   * @param type Class to instantiate
+   * @return Compiled instantiator, null if there's no way to instantiate the class
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileInstantiator(Class<?> type) {
+    if (Modifier.isAbstract(type.getModifiers()))
+      return null;
+
+    if (ALLOCATOR != null)
+      return ALLOCATOR.bindTo(type).asType(MethodType.methodType(Object.class));
+
+    try {
+      Constructor<?> ctor = type.getDeclaredConstructor();
+      ctor.setAccessible(true);
+      return LOOKUP.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Compile an allocator of the shape (Class)Object, which creates instances
+   * without invoking any of their constructors, if the runtime offers one
+   * @return Compiled allocator, null if it's not available
+   */
+  private static @Nullable java.lang.invoke.MethodHandle compileAllocator() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+
+      Method allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+
+      return LOOKUP.unreflect(allocateInstance)
+        .bindTo(theUnsafe.get(null))
+        .asType(MethodType.methodType(Object.class, Class.class));
+    } catch (Exception e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  A class value which remembers all classes it computed a value for, in order
+  to be able to remove them all again. Values which are never removed pin the
+  class loader of their computing code for as long as the class they're attached
+  to lives, which is forever for server classes, and would thus leak this plugin
+  across reloads.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class TrackedClassValue<T> extends ClassValue<T> {
+
+  private final Set<Class<?>> tracked;
+  private final Function<Class<?>, T> computer;
+
+  /**
+   * Create a new tracked class value
+   * @param computer Computes the value of a class on first access
+   */
+  public TrackedClassValue(Function<Class<?>, T> computer) {
+    this.tracked = ConcurrentHashMap.newKeySet();
+    this.computer = computer;
+  }
+
+  @Override
+  protected T computeValue(Class<?> type) {
+    tracked.add(type);
+    return computer.apply(type);
+  }
+
+  /**
+   * Remove the values of all classes which have been computed so far
+   */
+  public void clear() {
+    for (Class<?> type : tracked) {
+      // Untrack before removing, so that a concurrent recomputation tracks it again
+      tracked.remove(type);
+      remove(type);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package me.blvckbytes.bblibreflect;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that modifier chains capture interests at registration, dispatch
+  packets to the interested modifiers only and keep them ordered by priority.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ModifierRegistryTest {
+
+  private static class CountingModifier implements IPacketModifier {
+
+    private final @Nullable Collection<ClassHandle> interests;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private CountingModifier(@Nullable Collection<ClassHandle> interests) {
+      this.interests = interests;
+    }
+
+    @Override
+    public Object modifyIncoming(IPacketReceiver sender, Object incoming) {
+      return incoming;
+    }
+
+    @Override
+    public Object modifyOutgoing(IPacketReceiver receiver, Object outgoing) {
+      return outgoing;
+    }
+
+    @Override
+    public @Nullable Collection<ClassHandle> getInterests(PacketDirection direction) {
+      queries.incrementAndGet();
+      return interests;
+    }
+  }
+
+  private ModifierRegistry registry;
+  private PacketClassifier classifier;
+
+  @BeforeEach
+  public void setup() {
+    registry = new ModifierRegistry();
+    classifier = new PacketClassifier(ClassHandle.of(FakeNms.Packet.class));
+  }
+
+  @Test
+  public void queriesInterestsOnceAtRegistration() {
+    UUID player = UUID.randomUUID();
+    CountingModifier global = new CountingModifier(null);
+    CountingModifier specific = new CountingModifier(List.of(ClassHandle.of(FakeNms.PacketPlayInChat.class)));
+
+    registry.register(global, 0);
+    registry.registerSpecific(player, specific, 0);
+
+    // Once per direction
+    assertEquals(2, global.queries.get());
+    assertEquals(2, specific.queries.get());
+
+    // Merging per connection and dispatching reuse the captured interests
+    for (int i = 0; i < 3; i++) {
+      ModifierChain chain = registry.getGlobal().merge(registry.getSpecific(player));
+      chain.getDispatch().getIncoming(classifier.of(FakeNms.PacketPlayInChat.class));
+      chain.getDispatch().getOutgoing(classifier.of(FakeNms.ClientboundSystemChatPacket.class));
+    }
+
+    registry.unregister(global);
+
+    assertEquals(2, global.queries.get());
+    assertEquals(2, specific.queries.get());
+  }
+
+  @Test
+  public void dispatchesToInterestedModifiers() {
+    UUID player = UUID.randomUUID();
+    CountingModifier all = new CountingModifier(null);
+    CountingModifier chat = new CountingModifier(List.of(ClassHandle.of(FakeNms.PacketPlayInChat.class)));
+    CountingModifier none = new CountingModifier(List.of());
+
+    registry.register(all, 0);
+    registry.register(none, 0);
+    registry.registerSpecific(player, chat, 0);
+
+    ModifierDispatchTable dispatch = registry.getGlobal().merge(registry.getSpecific(player)).getDispatch();
+
+    assertArrayEquals(new IPacketModifier[] { all, chat }, dispatch.getIncoming(classifier.of(FakeNms.PacketPlayInChat.class)));
+    assertArrayEquals(new IPacketModifier[] { all }, dispatch.getOutgoing(classifier.of(FakeNms.ClientboundSystemChatPacket.class)));
+
+    // Chains of other players only see the global modifiers
+    assertArrayEquals(new IPacketModifier[] { all }, registry.getGlobal().getDispatch().getIncoming(classifier.of(FakeNms.PacketPlayInChat.class)));
+  }
+
+  @Test
+  public void ordersByPriority() {
+    CountingModifier low = new CountingModifier(null), first = new CountingModifier(null);
+    CountingModifier second = new CountingModifier(null), high = new CountingModifier(null);
+
+    registry.register(low, ModificationPriority.LOW.getValue());
+    registry.register(first, 0);
+    registry.register(high, ModificationPriority.HIGH.getValue());
+    registry.register(second, 0);
+
+    // Descending priority, registration order among equal priorities
+    assertArrayEquals(new IPacketModifier[] { high, first, second, low }, dispatchAll(registry.getGlobal()));
+
+    // Registering again places the modifier behind all others of the same priority
+    registry.unregister(first);
+    registry.register(first, 0);
+    assertArrayEquals(new IPacketModifier[] { high, second, first, low }, dispatchAll(registry.getGlobal()));
+  }
+
+  @Test
+  public void ordersEnumPrioritiesMostRecentHighFirst() {
+    CountingModifier low = new CountingModifier(null), lowLater = new CountingModifier(null);
+    CountingModifier high = new CountingModifier(null), highLater = new CountingModifier(null);
+    CountingModifier numeric = new CountingModifier(null);
+
+    registry.register(low, ModificationPriority.LOW);
+    registry.register(high, ModificationPriority.HIGH);
+    registry.register(lowLater, ModificationPriority.LOW);
+    registry.register(highLater, ModificationPriority.HIGH);
+
+    // Numeric priorities keep registration order, even when equal to HIGH
+    registry.register(numeric, ModificationPriority.HIGH.getValue());
+
+    assertArrayEquals(new IPacketModifier[] { highLater, high, numeric, low, lowLater }, dispatchAll(registry.getGlobal()));
+  }
+
+  @Test
+  public void mergesGlobalBeforeSpecific() {
+    UUID player = UUID.randomUUID();
+    CountingModifier global = new CountingModifier(null), globalLow = new CountingModifier(null);
+    CountingModifier specific = new CountingModifier(null), specificHigh = new CountingModifier(null);
+
+    registry.register(global, 0);
+    registry.register(globalLow, -10);
+    registry.registerSpecific(player, specific, 0);
+    registry.registerSpecific(player, specificHigh, 10);
+
+    assertArrayEquals(
+      new IPacketModifier[] { specificHigh, global, specific, globalLow },
+      dispatchAll(registry.getGlobal().merge(registry.getSpecific(player)))
+    );
+
+    // Removing the last specific modifier drops the player's chain entirely
+    registry.unregisterSpecific(player, specific);
+    registry.unregisterSpecific(player, specificHigh);
+    assertNull(registry.getSpecific(player));
+  }
+
+  /**
+   * Get all modifiers of a chain in the order they're dispatched to
+   * @param chain Chain of modifiers which are all interested in every packet
+   * @return Modifiers in order
+   */
+  private IPacketModifier[] dispatchAll(ModifierChain chain) {
+    return chain.getDispatch().getIncoming(classifier.of(FakeNms.PacketPlayInChat.class));
+  }
+}
@@ -0,0 +1,98 @@
+package me.blvckbytes.bblibreflect;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that packet classes receive dense IDs which survive clearing the
+  classification caches, and that directions and phases are parsed from names.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PacketClassifierTest {
+
+  private PacketClassifier classifier;
+
+  @BeforeEach
+  public void setup() {
+    classifier = new PacketClassifier(ClassHandle.of(FakeNms.Packet.class));
+  }
+
+  @Test
+  public void assignsDenseIds() {
+    PacketClassifier.Classification setSlot = classifier.of(FakeNms.PacketPlayOutSetSlot.class);
+    PacketClassifier.Classification keepAlive = classifier.of(FakeNms.PacketPlayInKeepAlive.class);
+
+    assertEquals(0, setSlot.getId());
+    assertEquals(1, keepAlive.getId());
+    assertEquals(2, classifier.getIdCount());
+
+    assertSame(setSlot, classifier.getById(0));
+    assertSame(keepAlive, classifier.getById(1));
+    assertNull(classifier.getById(2));
+    assertNull(classifier.getById(-1));
+  }
+
+  @Test
+  public void leavesNonPacketsWithoutId() {
+    PacketClassifier.Classification item = classifier.of(FakeNms.ItemStack.class);
+
+    assertFalse(item.isPacket());
+    assertEquals(-1, item.getId());
+
+    // The base type itself is no packet either
+    assertFalse(classifier.of(FakeNms.Packet.class).isPacket());
+    assertEquals(0, classifier.getIdCount());
+  }
+
+  @Test
+  public void reusesIdsAfterClearingCaches() {
+    PacketClassifier.Classification setSlot = classifier.of(FakeNms.PacketPlayOutSetSlot.class);
+    PacketClassifier.Classification keepAlive = classifier.of(FakeNms.PacketPlayInKeepAlive.class);
+
+    classifier.clearCaches();
+
+    // Classified again in a different order, still keeping their IDs
+    assertSame(keepAlive, classifier.of(FakeNms.PacketPlayInKeepAlive.class));
+    assertSame(setSlot, classifier.of(FakeNms.PacketPlayOutSetSlot.class));
+    assertEquals(2, classifier.getIdCount());
+
+    // New classes continue after the existing IDs
+    assertEquals(2, classifier.of(FakeNms.PacketPlayOutOpenWindow.class).getId());
+    assertEquals(3, classifier.getIdCount());
+  }
+
+  @Test
+  public void parsesDirectionsAndPhases() {
+    PacketClassifier.Classification setSlot = classifier.of(FakeNms.PacketPlayOutSetSlot.class);
+    assertEquals(PacketDirection.OUTGOING, setSlot.getDirection());
+    assertEquals(ProtocolPhase.PLAY, setSlot.getPhase());
+
+    PacketClassifier.Classification handshake = classifier.of(FakeNms.PacketHandshakingInSetProtocol.class);
+    assertEquals(PacketDirection.INCOMING, handshake.getDirection());
+    assertEquals(ProtocolPhase.HANDSHAKING, handshake.getPhase());
+
+    // Mojang mapped names only carry their direction, the phase is taken from the package
+    PacketClassifier.Classification systemChat = classifier.of(FakeNms.ClientboundSystemChatPacket.class);
+    assertEquals(PacketDirection.OUTGOING, systemChat.getDirection());
+    assertNull(systemChat.getPhase());
+  }
+}
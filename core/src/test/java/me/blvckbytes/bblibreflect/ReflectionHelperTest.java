@@ -0,0 +1,85 @@
+package me.blvckbytes.bblibreflect;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.fixtures.FixtureClassResolver;
+import me.blvckbytes.bblibreflect.fixtures.FixtureLogger;
+import me.blvckbytes.bblibreflect.handle.ResolutionCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Boots the reflection helper against the fixtures, without a plugin.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ReflectionHelperTest {
+
+  @Test
+  public void bootsWithoutPlugin() throws Exception {
+    List<Exception> errors = new ArrayList<>();
+    ReflectionHelper helper = new ReflectionHelper(FixtureLogger.recording(errors), null);
+
+    // No data folder to keep the cache in
+    assertNull(ResolutionCache.getActive());
+
+    helper.getWarmUp().get(10, TimeUnit.SECONDS);
+    assertEquals(FixtureClassResolver.VERSION, helper.getVersionStr());
+    assertArrayEquals(new int[] { 1, 19, 1 }, helper.getVersionNumbers());
+    assertTrue(helper.isRefactored());
+
+    helper.initialize();
+    helper.cleanup();
+    assertTrue(errors.isEmpty(), errors::toString);
+  }
+
+  @Test
+  public void stopsWarmUpOnCleanup() throws Exception {
+    List<Exception> errors = new ArrayList<>();
+    ReflectionHelper helper = new ReflectionHelper(FixtureLogger.recording(errors), null);
+
+    // Cleaning up right away, while the workers are still busy
+    helper.cleanup();
+
+    assertTrue(helper.getWarmUp().isDone());
+    assertTrue(errors.isEmpty(), errors::toString);
+  }
+
+  @Test
+  public void resolvesStandIns() throws Exception {
+    ReflectionHelper helper = new ReflectionHelper(FixtureLogger.recording(new ArrayList<>()), null);
+
+    assertSame(FakeNms.PacketPlayInChat.class, helper.getClass(RClass.PACKET_I_CHAT).get());
+    assertNull(helper.getClassOptional(RClass.PACKET_O_TITLE));
+    assertThrows(ClassNotFoundException.class, () -> helper.getClass(RClass.PACKET_O_TITLE));
+  }
+
+  @Test
+  public void createsEmptyPackets() throws Exception {
+    ReflectionHelper helper = new ReflectionHelper(FixtureLogger.recording(new ArrayList<>()), null);
+
+    // Default constructor
+    assertTrue(helper.createEmptyPacket(helper.getClass(RClass.PACKET_I_CHAT)) instanceof FakeNms.PacketPlayInChat);
+
+    // Packet data serializer constructor
+    assertTrue(helper.createEmptyPacket(helper.getClass(RClass.PACKET_O_PLAYER_INFO)) instanceof FakeNms.PacketPlayOutPlayerInfo);
+  }
+}
@@ -0,0 +1,173 @@
+package me.blvckbytes.bblibreflect.communicator;
+
+import com.mojang.authlib.GameProfile;
+import me.blvckbytes.bblibreflect.ReflectionHelper;
+import me.blvckbytes.bblibreflect.communicator.parameter.*;
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import me.blvckbytes.bblibreflect.fixtures.FixtureInterceptor;
+import me.blvckbytes.bblibreflect.fixtures.FixtureLogger;
+import me.blvckbytes.bblibreflect.fixtures.FixtureViewer;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+import me.blvckbytes.bblibreflect.handle.FieldHandle;
+import me.blvckbytes.bblibutil.component.TextComponent;
+import me.blvckbytes.bblibutil.logger.ILogger;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Constructs communicators against the fixtures and sends their packets to
+  viewers, checking that each viewer receives a packet of it's own.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class CommunicatorTest {
+
+  private List<Exception> errors;
+  private ILogger logger;
+  private ReflectionHelper helper;
+  private FixtureInterceptor interceptor;
+  private FixtureViewer viewerA, viewerB;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    errors = new ArrayList<>();
+    logger = FixtureLogger.recording(errors);
+    helper = new ReflectionHelper(logger, null);
+    interceptor = new FixtureInterceptor(helper);
+    viewerA = new FixtureViewer(UUID.randomUUID());
+    viewerB = new FixtureViewer(UUID.randomUUID());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    helper.cleanup();
+    assertTrue(errors.isEmpty(), errors::toString);
+  }
+
+  @Test
+  public void sendsChatMessages() throws Exception {
+    ChatOutCommunicator communicator = new ChatOutCommunicator(logger, helper, interceptor);
+    ChatMessageParameter parameter = new ChatMessageParameter(new TextComponent("Hello"), null, ChatMessageType.SYSTEM);
+
+    assertEquals(CommunicatorResult.SUCCESS, communicator.sendToViewers(parameter, List.of(viewerA, viewerB), null));
+
+    FakeNms.ClientboundSystemChatPacket packetA = (FakeNms.ClientboundSystemChatPacket) viewerA.getSent().get(0);
+    FakeNms.ClientboundSystemChatPacket packetB = (FakeNms.ClientboundSystemChatPacket) viewerB.getSent().get(0);
+
+    // Personalized copies
+    assertNotSame(packetA, packetB);
+    assertEquals(ChatMessageType.SYSTEM.ordinal(), ClassHandle.of(FakeNms.ClientboundSystemChatPacket.class).locateField().withType(int.class).required().getInt(packetA));
+    assertEquals("{\"text\":\"Hello\"}", ClassHandle.of(FakeNms.ClientboundSystemChatPacket.class).locateField().withType(FakeNms.IChatBaseComponent.class).required().get(packetB).toString());
+  }
+
+  @Test
+  public void receivesChatMessages() throws Exception {
+    ChatInCommunicator communicator = new ChatInCommunicator(logger, helper, interceptor);
+    ChatMessageParameter parameter = new ChatMessageParameter(new TextComponent("§aHello"), null, ChatMessageType.CHAT);
+
+    assertEquals(CommunicatorResult.SUCCESS, communicator.receiveFromViewers(parameter, List.of(viewerA, viewerB), null));
+
+    assertEquals("&aHello", ClassHandle.of(FakeNms.PacketPlayInChat.class).locateField().withType(String.class).required().get(viewerA.getReceived().get(0)));
+
+    // Not personalized, so all viewers share the base packet
+    assertSame(viewerA.getReceived().get(0), viewerB.getReceived().get(0));
+  }
+
+  @Test
+  public void sendsPlayerInfo() throws Exception {
+    PlayerInfoCommunicator communicator = new PlayerInfoCommunicator(logger, helper, interceptor);
+    GameProfile profile = new GameProfile(UUID.randomUUID(), "Fixture");
+    PlayerInfoParameter parameter = new PlayerInfoParameter(
+      PlayerInfoAction.ADD_PLAYER,
+      new PlayerInfoParameter.Entry(profile, new TextComponent("Name"), EnumGameMode.CREATIVE, 20)
+    );
+
+    assertEquals(CommunicatorResult.SUCCESS, communicator.sendToViewers(parameter, List.of(viewerA, viewerB), null));
+
+    Object packetA = viewerA.getSent().get(0), packetB = viewerB.getSent().get(0);
+    assertNotSame(packetA, packetB);
+
+    ClassHandle C_PACKET = ClassHandle.of(FakeNms.PacketPlayOutPlayerInfo.class);
+    assertEquals(
+      FakeNms.PacketPlayOutPlayerInfo.EnumPlayerInfoAction.ADD_PLAYER,
+      C_PACKET.locateField().withType(FakeNms.PacketPlayOutPlayerInfo.EnumPlayerInfoAction.class).required().get(packetA)
+    );
+
+    List<?> entriesA = (List<?>) C_PACKET.locateField().withType(List.class).required().get(packetA);
+    List<?> entriesB = (List<?>) C_PACKET.locateField().withType(List.class).required().get(packetB);
+    assertEquals(1, entriesA.size());
+    assertNotSame(entriesA.get(0), entriesB.get(0));
+
+    ClassHandle C_DATA = ClassHandle.of(FakeNms.PacketPlayOutPlayerInfo.PlayerInfoData.class);
+    assertSame(profile, C_DATA.locateField().withType(GameProfile.class).required().get(entriesA.get(0)));
+    assertEquals(20, C_DATA.locateField().withType(int.class).required().getInt(entriesA.get(0)));
+    assertEquals(FakeNms.EnumGamemode.CREATIVE, C_DATA.locateField().withType(FakeNms.EnumGamemode.class).required().get(entriesA.get(0)));
+    assertNotNull(C_DATA.locateField().withType(FakeNms.IChatBaseComponent.class).required().get(entriesB.get(0)));
+  }
+
+  @Test
+  public void sendsSetSlot() throws Exception {
+    SetSlotCommunicator communicator = new SetSlotCommunicator(logger, helper, interceptor);
+    SetSlotParameter parameter = new SetSlotParameter(new ItemStack(Material.STONE), null, 5, true);
+
+    viewerA.setCurrentWindowId(3);
+    viewerB.setCurrentWindowId(7);
+
+    assertEquals(CommunicatorResult.SUCCESS, communicator.sendToViewers(parameter, List.of(viewerA, viewerB), null));
+
+    // Window ID, slot (after the state ID) and item
+    ClassHandle C_SET_SLOT = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+    FieldHandle[] fields = C_SET_SLOT.locateMany(
+      C_SET_SLOT.locateField().withType(int.class),
+      C_SET_SLOT.locateField().withType(int.class).withSkip(2),
+      C_SET_SLOT.locateField().withType(FakeNms.ItemStack.class)
+    );
+
+    Object packetA = viewerA.getSent().get(0), packetB = viewerB.getSent().get(0);
+
+    assertEquals(3, fields[0].getInt(packetA));
+    assertEquals(7, fields[0].getInt(packetB));
+    assertEquals(5, fields[1].getInt(packetB));
+    assertNotNull(fields[2].get(packetB));
+  }
+
+  @Test
+  public void sendsTitles() throws Exception {
+    TitleTitleCommunicator title = new TitleTitleCommunicator(logger, helper, interceptor);
+    TitleSubtitleCommunicator subtitle = new TitleSubtitleCommunicator(logger, helper, interceptor);
+    TitleTimingsCommunicator timings = new TitleTimingsCommunicator(logger, helper, interceptor);
+
+    assertEquals(CommunicatorResult.SUCCESS, title.sendToViewer(new TitleTitleParameter(new TextComponent("Title")), viewerA, null));
+    assertEquals(CommunicatorResult.SUCCESS, subtitle.sendToViewer(new TitleSubtitleParameter(new TextComponent("Subtitle")), viewerA, null));
+    assertEquals(CommunicatorResult.SUCCESS, timings.sendToViewers(new TitleTimingsParameter(10, 70, 20), List.of(viewerA, viewerB), null));
+
+    assertTrue(viewerA.getSent().get(0) instanceof FakeNms.ClientboundSetTitleTextPacket);
+    assertTrue(viewerA.getSent().get(1) instanceof FakeNms.ClientboundSetSubtitleTextPacket);
+
+    assertEquals(70, ClassHandle.of(FakeNms.ClientboundSetTitlesAnimationPacket.class).locateField().withType(int.class).withSkip(1).required().getInt(viewerB.getSent().get(0)));
+    assertSame(viewerA.getSent().get(2), viewerB.getSent().get(0));
+  }
+}
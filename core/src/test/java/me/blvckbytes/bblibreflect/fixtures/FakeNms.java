@@ -0,0 +1,375 @@
+package me.blvckbytes.bblibreflect.fixtures;
+
+import com.google.gson.JsonElement;
+import com.mojang.authlib.GameProfile;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.buffer.ByteBuf;
+import org.bukkit.Material;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Minimal stand-ins for the server's classes, shaped just like the predicates of the
+  reflection helper, the packet interceptor and the communicators expect them to be,
+  so that the library can resolve all of it's handles on a plain JVM. They only hold
+  state and record what has been sent or received, without any server logic.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FakeNms {
+
+  private FakeNms() {}
+
+  //=========================================================================//
+  //                                  Server                                 //
+  //=========================================================================//
+
+  public static class MinecraftServer {
+    private final ServerConnection serverConnection = new ServerConnection();
+    private final PlayerList playerList = new PlayerList();
+  }
+
+  public static class ServerConnection {
+    private final List<ChannelFuture> listeningChannels = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  public static class CraftServer {
+    private final MinecraftServer console = new MinecraftServer();
+  }
+
+  public static class PlayerList {
+
+    // Chat messages which have been broadcast, in order
+    public final List<FilteredText<PlayerChatMessage>> broadcast = Collections.synchronizedList(new ArrayList<>());
+
+    public void broadcastChatMessage(FilteredText<PlayerChatMessage> message, EntityPlayer sender, ResourceKey<ChatMessageType> type) {
+      broadcast.add(message);
+    }
+  }
+
+  //=========================================================================//
+  //                                 Network                                 //
+  //=========================================================================//
+
+  public interface Packet {}
+
+  public static class NetworkManager {
+    private Channel channel;
+
+    // Packets which passed through this network manager, in order
+    public final List<Packet> sent = Collections.synchronizedList(new ArrayList<>());
+    public final List<Packet> received = Collections.synchronizedList(new ArrayList<>());
+
+    public NetworkManager(Channel channel) {
+      this.channel = channel;
+    }
+
+    public void sendPacket(Packet packet, GenericFutureListener<? extends Future<? super Void>> listener) {
+      sent.add(packet);
+    }
+
+    protected void channelRead0(ChannelHandlerContext context, Packet packet) {
+      received.add(packet);
+    }
+  }
+
+  public static class PacketDataSerializer {
+    private final ByteBuf source;
+
+    public PacketDataSerializer(ByteBuf source) {
+      this.source = source;
+    }
+  }
+
+  //=========================================================================//
+  //                                  Player                                 //
+  //=========================================================================//
+
+  public static class PlayerConnection {
+    public NetworkManager networkManager;
+
+    public PlayerConnection(NetworkManager networkManager) {
+      this.networkManager = networkManager;
+    }
+  }
+
+  public static class EntityPlayer {
+    public PlayerConnection playerConnection;
+
+    public EntityPlayer(PlayerConnection playerConnection) {
+      this.playerConnection = playerConnection;
+    }
+  }
+
+  public static class CraftPlayer {
+    private final EntityPlayer entity;
+    private final GameProfile profile;
+
+    public CraftPlayer(EntityPlayer entity, GameProfile profile) {
+      this.entity = entity;
+      this.profile = profile;
+    }
+
+    public EntityPlayer getHandle() {
+      return entity;
+    }
+
+    public GameProfile getProfile() {
+      return profile;
+    }
+  }
+
+  //=========================================================================//
+  //                                  Items                                  //
+  //=========================================================================//
+
+  public static class Item {
+    private final Material material;
+
+    public Item(Material material) {
+      this.material = material;
+    }
+  }
+
+  public static class ItemStack {
+    private final Item item;
+    private final int count;
+
+    public ItemStack(Item item, int count) {
+      this.item = item;
+      this.count = count;
+    }
+  }
+
+  public static class CraftItemStack {
+    private final Material type;
+
+    private CraftItemStack(Material type) {
+      this.type = type;
+    }
+
+    public static ItemStack asNMSCopy(org.bukkit.inventory.ItemStack stack) {
+      return new ItemStack(new Item(stack.getType()), stack.getAmount());
+    }
+
+    public static CraftItemStack asNewCraftStack(Item item) {
+      return new CraftItemStack(item.material);
+    }
+
+    public Material getType() {
+      return type;
+    }
+  }
+
+  public static class TileEntityFurnace {
+    private static final Map<Item, Integer> FUELS = new HashMap<>();
+
+    public static Map<Item, Integer> fuels() {
+      return FUELS;
+    }
+  }
+
+  //=========================================================================//
+  //                                   Chat                                  //
+  //=========================================================================//
+
+  public interface IChatBaseComponent {}
+
+  public static class ChatComponentText implements IChatBaseComponent {
+    private final String json;
+
+    public ChatComponentText(String json) {
+      this.json = json;
+    }
+
+    @Override
+    public String toString() {
+      return json;
+    }
+  }
+
+  public static class ChatSerializer {
+    public static IChatBaseComponent fromJson(JsonElement json) {
+      return new ChatComponentText(String.valueOf(json));
+    }
+  }
+
+  public static class ResourceKey<T> {}
+
+  public static class ChatMessageType {
+    public static final ResourceKey<ChatMessageType> CHAT = new ResourceKey<>();
+    public static final ResourceKey<ChatMessageType> SYSTEM = new ResourceKey<>();
+    public static final ResourceKey<ChatMessageType> GAME_INFO = new ResourceKey<>();
+  }
+
+  public static class MessageSignature {
+    private static final MessageSignature UNSIGNED = new MessageSignature();
+
+    public static MessageSignature unsigned() {
+      return UNSIGNED;
+    }
+  }
+
+  public static class PlayerChatMessage {
+    private final IChatBaseComponent signedContent;
+    private final MessageSignature signature;
+    private final Optional<IChatBaseComponent> unsignedContent;
+
+    public PlayerChatMessage(IChatBaseComponent signedContent, MessageSignature signature, Optional<IChatBaseComponent> unsignedContent) {
+      this.signedContent = signedContent;
+      this.signature = signature;
+      this.unsignedContent = unsignedContent;
+    }
+  }
+
+  public static class FilteredText<T> {
+    private final T raw;
+    private final T filtered;
+
+    public FilteredText(T raw, T filtered) {
+      this.raw = raw;
+      this.filtered = filtered;
+    }
+  }
+
+  //=========================================================================//
+  //                                 Profiles                                //
+  //=========================================================================//
+
+  public enum EnumGamemode {
+    NOT_SET, SURVIVAL, CREATIVE, ADVENTURE, SPECTATOR
+  }
+
+  public static class ProfilePublicKey {
+    public static class a {}
+  }
+
+  //=========================================================================//
+  //                                 Packets                                 //
+  //=========================================================================//
+
+  public static class PacketHandshakingInSetProtocol implements Packet {
+    private int protocolVersion;
+    private String hostName;
+    private int port;
+  }
+
+  public static class PacketLoginOutSuccess implements Packet {
+    private GameProfile gameProfile;
+  }
+
+  public static class PacketPlayOutOpenWindow implements Packet {
+    private int containerId;
+  }
+
+  public static class PacketPlayOutSetSlot implements Packet {
+    private int containerId;
+    private int stateId;
+    private int slot;
+    private ItemStack itemStack;
+  }
+
+  public static class PacketPlayOutEntity implements Packet {
+    protected int entityId;
+    protected short xa, ya, za;
+    protected boolean onGround;
+
+    // Declares no fields of it's own, so predicates have to walk up into the superclass
+    public static class PacketPlayOutRelEntityMove extends PacketPlayOutEntity {}
+  }
+
+  public static class PacketPlayOutKeepAlive implements Packet {
+    private long id;
+  }
+
+  public static class PacketPlayInKeepAlive implements Packet {
+    private long id;
+  }
+
+  public static class ClientboundSystemChatPacket implements Packet {
+    private final IChatBaseComponent content;
+    private final int typeId;
+
+    public ClientboundSystemChatPacket(IChatBaseComponent content, int typeId) {
+      this.content = content;
+      this.typeId = typeId;
+    }
+  }
+
+  public static class PacketPlayInChat implements Packet {
+    private String message;
+  }
+
+  public static class PacketPlayOutPlayerInfo implements Packet {
+    private EnumPlayerInfoAction action;
+    private List<PlayerInfoData> entries;
+
+    public PacketPlayOutPlayerInfo(PacketDataSerializer serializer) {}
+
+    public enum EnumPlayerInfoAction {
+      ADD_PLAYER, UPDATE_GAME_MODE, UPDATE_LATENCY, UPDATE_DISPLAY_NAME, REMOVE_PLAYER
+    }
+
+    public static class PlayerInfoData {
+      private final int latency;
+      private final EnumGamemode gameMode;
+      private final GameProfile profile;
+      private final IChatBaseComponent displayName;
+      private final ProfilePublicKey.a profilePublicKey;
+
+      public PlayerInfoData(GameProfile profile, int latency, EnumGamemode gameMode, IChatBaseComponent displayName, ProfilePublicKey.a profilePublicKey) {
+        this.profile = profile;
+        this.latency = latency;
+        this.gameMode = gameMode;
+        this.displayName = displayName;
+        this.profilePublicKey = profilePublicKey;
+      }
+    }
+  }
+
+  public static class ClientboundSetTitleTextPacket implements Packet {
+    private final IChatBaseComponent text;
+
+    public ClientboundSetTitleTextPacket(IChatBaseComponent text) {
+      this.text = text;
+    }
+  }
+
+  public static class ClientboundSetSubtitleTextPacket implements Packet {
+    private final IChatBaseComponent text;
+
+    public ClientboundSetSubtitleTextPacket(IChatBaseComponent text) {
+      this.text = text;
+    }
+  }
+
+  public static class ClientboundSetTitlesAnimationPacket implements Packet {
+    private final int fadeIn;
+    private final int stay;
+    private final int fadeOut;
+
+    public ClientboundSetTitlesAnimationPacket(int fadeIn, int stay, int fadeOut) {
+      this.fadeIn = fadeIn;
+      this.stay = stay;
+      this.fadeOut = fadeOut;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package me.blvckbytes.bblibreflect.fixtures;
+
+import me.blvckbytes.bblibreflect.IClassResolver;
+import me.blvckbytes.bblibreflect.RClass;
+import me.blvckbytes.bblibreflect.handle.ClassHandle;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Resolves the known reflection required classes to their stand-ins, selected by
+  setting the bblibreflect.classResolver system property to this class. Classes
+  without a stand-in are reported as not available, just like on a server version
+  which lacks them. Further stand-ins may be registered at runtime.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FixtureClassResolver implements IClassResolver {
+
+  // Version the stand-ins are shaped after
+  public static final String VERSION = "v1_19_R1";
+
+  private static final Map<RClass, Class<?>> fixtures;
+
+  static {
+    fixtures = new EnumMap<>(RClass.class);
+
+    fixtures.put(RClass.MINECRAFT_SERVER, FakeNms.MinecraftServer.class);
+    fixtures.put(RClass.SERVER_CONNECTION, FakeNms.ServerConnection.class);
+    fixtures.put(RClass.CRAFT_SERVER, FakeNms.CraftServer.class);
+
+    fixtures.put(RClass.PACKET, FakeNms.Packet.class);
+    fixtures.put(RClass.NETWORK_MANAGER, FakeNms.NetworkManager.class);
+    fixtures.put(RClass.PACKET_DATA_SERIALIZER, FakeNms.PacketDataSerializer.class);
+
+    fixtures.put(RClass.PLAYER_CONNECTION, FakeNms.PlayerConnection.class);
+    fixtures.put(RClass.ENTITY_PLAYER, FakeNms.EntityPlayer.class);
+    fixtures.put(RClass.CRAFT_PLAYER, FakeNms.CraftPlayer.class);
+
+    fixtures.put(RClass.ITEM, FakeNms.Item.class);
+    fixtures.put(RClass.ITEM_STACK, FakeNms.ItemStack.class);
+    fixtures.put(RClass.CRAFT_ITEM_STACK, FakeNms.CraftItemStack.class);
+    fixtures.put(RClass.TILE_ENTITY_FURNACE, FakeNms.TileEntityFurnace.class);
+
+    fixtures.put(RClass.I_CHAT_BASE_COMPONENT, FakeNms.IChatBaseComponent.class);
+    fixtures.put(RClass.CHAT_COMPONENT_TEXT, FakeNms.ChatComponentText.class);
+    fixtures.put(RClass.CHAT_SERIALIZER, FakeNms.ChatSerializer.class);
+    fixtures.put(RClass.CHAT_MESSAGE_TYPE, FakeNms.ChatMessageType.class);
+    fixtures.put(RClass.RESOURCE_KEY, FakeNms.ResourceKey.class);
+    fixtures.put(RClass.MESSAGE_SIGNATURE, FakeNms.MessageSignature.class);
+    fixtures.put(RClass.PLAYER_CHAT_MESSAGE, FakeNms.PlayerChatMessage.class);
+    fixtures.put(RClass.FILTERED_TEXT, FakeNms.FilteredText.class);
+    fixtures.put(RClass.PLAYER_LIST, FakeNms.PlayerList.class);
+
+    fixtures.put(RClass.ENUM_GAME_MODE, FakeNms.EnumGamemode.class);
+    fixtures.put(RClass.PROFILE_PUBLIC_KEY, FakeNms.ProfilePublicKey.class);
+
+    fixtures.put(RClass.PACKET_I_HANDSHAKE, FakeNms.PacketHandshakingInSetProtocol.class);
+    fixtures.put(RClass.PACKET_O_LOGIN, FakeNms.PacketLoginOutSuccess.class);
+    fixtures.put(RClass.PACKET_O_OPEN_WINDOW, FakeNms.PacketPlayOutOpenWindow.class);
+    fixtures.put(RClass.PACKET_O_SET_SLOT, FakeNms.PacketPlayOutSetSlot.class);
+    fixtures.put(RClass.PACKET_O_KEEP_ALIVE, FakeNms.PacketPlayOutKeepAlive.class);
+    fixtures.put(RClass.PACKET_I_KEEP_ALIVE, FakeNms.PacketPlayInKeepAlive.class);
+    fixtures.put(RClass.CLIENTBOUND_SYSTEM_CHAT_PACKET, FakeNms.ClientboundSystemChatPacket.class);
+    fixtures.put(RClass.PACKET_I_CHAT, FakeNms.PacketPlayInChat.class);
+    fixtures.put(RClass.PACKET_O_PLAYER_INFO, FakeNms.PacketPlayOutPlayerInfo.class);
+    fixtures.put(RClass.ENUM_PLAYER_INFO_ACTION, FakeNms.PacketPlayOutPlayerInfo.EnumPlayerInfoAction.class);
+    fixtures.put(RClass.PLAYER_INFO_DATA, FakeNms.PacketPlayOutPlayerInfo.PlayerInfoData.class);
+    fixtures.put(RClass.CLIENTBOUND_TITLE_SET, FakeNms.ClientboundSetTitleTextPacket.class);
+    fixtures.put(RClass.CLIENTBOUND_SUBTITLE_SET, FakeNms.ClientboundSetSubtitleTextPacket.class);
+    fixtures.put(RClass.CLIENTBOUND_TITLES_ANIMATION, FakeNms.ClientboundSetTitlesAnimationPacket.class);
+  }
+
+  /**
+   * Register a stand-in for a known class, replacing any previous one
+   * @param rc Class identifier
+   * @param fixture Stand-in class
+   */
+  public static synchronized void register(RClass rc, Class<?> fixture) {
+    fixtures.put(rc, fixture);
+  }
+
+  @Override
+  public String getVersion() {
+    return VERSION;
+  }
+
+  @Override
+  public ClassHandle resolve(RClass rc, String version, boolean refactored) throws ClassNotFoundException {
+    Class<?> fixture;
+
+    synchronized (FixtureClassResolver.class) {
+      fixture = fixtures.get(rc);
+    }
+
+    if (fixture == null)
+      throw new ClassNotFoundException("There is no stand-in for " + rc);
+
+    return ClassHandle.of(fixture);
+  }
+}
@@ -0,0 +1,103 @@
+package me.blvckbytes.bblibreflect.fixtures;
+
+import lombok.Getter;
+import me.blvckbytes.bblibreflect.*;
+import me.blvckbytes.bblibreflect.communicator.IPacketCommunicatorRegistry;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Stands in for the packet interceptor, which needs a running server to inject into,
+  so that communicators can be constructed on a plain JVM. Modifiers are only kept
+  track of, as there are no connections to dispatch packets on. Players are mapped
+  to the viewers which have been added up front.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FixtureInterceptor implements IPacketInterceptor {
+
+  @Getter private final PacketClassifier packetClassifier;
+  @Getter private final IPacketCommunicatorRegistry packetCommunicatorRegistry;
+
+  private final Map<IPacketModifier, Integer> modifiers;
+  private final Map<UUID, Map<IPacketModifier, Integer>> specificModifiers;
+  private final Map<UUID, ICustomizableViewer> viewers;
+
+  public FixtureInterceptor(IReflectionHelper helper) throws Exception {
+    this.packetClassifier = new PacketClassifier(helper.getClass(RClass.PACKET));
+    this.packetCommunicatorRegistry = new PacketCommunicatorRegistry(packetClassifier);
+    this.modifiers = new ConcurrentHashMap<>();
+    this.specificModifiers = new ConcurrentHashMap<>();
+    this.viewers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Add a viewer which players of the same UUID are to be mapped to
+   * @param uuid UUID of the player
+   * @param viewer Viewer to map to
+   */
+  public void addViewer(UUID uuid, ICustomizableViewer viewer) {
+    viewers.put(uuid, viewer);
+  }
+
+  @Override
+  public void register(IPacketModifier modifier, int priority) {
+    modifiers.put(modifier, priority);
+  }
+
+  @Override
+  public void unregister(IPacketModifier modifier) {
+    modifiers.remove(modifier);
+  }
+
+  @Override
+  public boolean isRegistered(IPacketModifier modifier) {
+    return modifiers.containsKey(modifier);
+  }
+
+  @Override
+  public void registerSpecific(UUID target, IPacketModifier modifier, int priority) {
+    specificModifiers.computeIfAbsent(target, k -> new ConcurrentHashMap<>()).put(modifier, priority);
+  }
+
+  @Override
+  public void unregisterSpecific(UUID target, IPacketModifier modifier) {
+    Map<IPacketModifier, Integer> targetModifiers = specificModifiers.get(target);
+
+    if (targetModifiers != null)
+      targetModifiers.remove(modifier);
+  }
+
+  @Override
+  public boolean isRegisteredSpecific(UUID target, IPacketModifier modifier) {
+    Map<IPacketModifier, Integer> targetModifiers = specificModifiers.get(target);
+    return targetModifiers != null && targetModifiers.containsKey(modifier);
+  }
+
+  @Override
+  public ICustomizableViewer getPlayerAsViewer(Player p) {
+    ICustomizableViewer viewer = viewers.get(p.getUniqueId());
+
+    if (viewer == null)
+      throw new IllegalStateException("There is no viewer for " + p.getUniqueId());
+
+    return viewer;
+  }
+}
@@ -0,0 +1,48 @@
+package me.blvckbytes.bblibreflect.fixtures;
+
+import me.blvckbytes.bblibutil.logger.ILogger;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Creates loggers which record all logged errors, so that tests can assert
+  that nothing went wrong silently. All other messages are discarded.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FixtureLogger {
+
+  private FixtureLogger() {}
+
+  /**
+   * Create a new logger which records all logged errors
+   * @param errors List to append logged errors to
+   * @return Recording logger
+   */
+  public static ILogger recording(List<Exception> errors) {
+    return (ILogger) Proxy.newProxyInstance(
+      ILogger.class.getClassLoader(),
+      new Class<?>[] { ILogger.class },
+      (proxy, method, args) -> {
+        if (method.getName().equals("logError") && args != null && args.length == 1 && args[0] instanceof Exception)
+          errors.add((Exception) args[0]);
+        return null;
+      }
+    );
+  }
+}
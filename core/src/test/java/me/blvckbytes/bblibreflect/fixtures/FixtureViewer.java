@@ -0,0 +1,79 @@
+package me.blvckbytes.bblibreflect.fixtures;
+
+import io.netty.channel.Channel;
+import lombok.Getter;
+import lombok.Setter;
+import me.blvckbytes.bblibreflect.ICustomizableViewer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  A viewer without a connection, which records all packets that have been
+  sent to or received from it and completes their callbacks immediately.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+@Getter
+@Setter
+public class FixtureViewer implements ICustomizableViewer {
+
+  private final @Nullable UUID uuid;
+
+  // Packets which have been sent or received, in order
+  private final List<Object> sent, received;
+
+  private int currentWindowId;
+  private boolean cannotRenderHexColors;
+  private int clientVersion;
+  private int ping;
+
+  public FixtureViewer(@Nullable UUID uuid) {
+    this.uuid = uuid;
+    this.sent = Collections.synchronizedList(new ArrayList<>());
+    this.received = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @Override
+  public boolean cannotRenderHexColors() {
+    return cannotRenderHexColors;
+  }
+
+  @Override
+  public void sendPacket(Object packet, @Nullable Runnable done) {
+    sent.add(packet);
+
+    if (done != null)
+      done.run();
+  }
+
+  @Override
+  public void receivePacket(Object packet, @Nullable Runnable done) {
+    received.add(packet);
+
+    if (done != null)
+      done.run();
+  }
+
+  @Override
+  public Channel getChannel() {
+    throw new UnsupportedOperationException("Fixture viewers are not connected");
+  }
+}
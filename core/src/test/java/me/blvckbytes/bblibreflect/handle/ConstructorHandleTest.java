@@ -0,0 +1,65 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that compiled instantiations report errors just like reflection does.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ConstructorHandleTest {
+
+  public static class Target {
+    private final int value;
+
+    public Target(int value) {
+      if (value < 0)
+        throw new IllegalArgumentException("Negative value");
+
+      this.value = value;
+    }
+  }
+
+  private final ClassHandle C_TARGET = ClassHandle.of(Target.class);
+
+  @Test
+  public void instantiatesCompiled() throws Exception {
+    Object instance = C_TARGET.locateConstructor().withParameters(int.class).required().newInstance1(5);
+    assertEquals(5, ((Target) instance).value);
+  }
+
+  @Test
+  public void wrapsTargetExceptions() throws Exception {
+    ConstructorHandle constructor = C_TARGET.locateConstructor().withParameters(int.class).required();
+
+    // Thrown by the constructor, even though it's the same type adaptation errors are reported as
+    InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> constructor.newInstance1(-1));
+    assertTrue(e.getCause() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  public void rejectsMismatchingArguments() throws Exception {
+    ConstructorHandle constructor = C_TARGET.locateConstructor().withParameters(int.class).required();
+
+    assertThrows(IllegalArgumentException.class, () -> constructor.newInstance1("5"));
+    assertThrows(IllegalArgumentException.class, () -> constructor.newInstance1(null));
+  }
+}
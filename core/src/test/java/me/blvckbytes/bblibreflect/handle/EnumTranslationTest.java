@@ -0,0 +1,88 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.communicator.parameter.ChatMessageType;
+import me.blvckbytes.bblibreflect.communicator.parameter.EnumGameMode;
+import me.blvckbytes.bblibreflect.communicator.parameter.PlayerInfoAction;
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that library constants are translated by their names first and by
+  their ordinals for each constant which has been renamed on the target.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class EnumTranslationTest {
+
+  // Shape of the chat message type from 1.12 up to 1.16
+  public enum LegacyChatMessageType { CHAT, SYSTEM, GAME_INFO }
+
+  // Obfuscated names
+  public enum ObfuscatedChatMessageType { a, b, c }
+
+  // Gamemode without a placeholder for unset values
+  public enum ModernGamemode { SURVIVAL, CREATIVE, ADVENTURE, SPECTATOR }
+
+  @Test
+  public void translatesByName() throws Exception {
+    EnumTranslation<PlayerInfoAction> translation = ClassHandle.of(FakeNms.PacketPlayOutPlayerInfo.EnumPlayerInfoAction.class)
+      .asEnum()
+      .translationFrom(PlayerInfoAction.class);
+
+    assertTrue(translation.isComplete());
+    assertEquals(FakeNms.PacketPlayOutPlayerInfo.EnumPlayerInfoAction.REMOVE_PLAYER, translation.translate(PlayerInfoAction.REMOVE_PLAYER));
+  }
+
+  @Test
+  public void fallsBackToOrdinalsPerConstant() throws Exception {
+    EnumTranslation<ChatMessageType> translation = ClassHandle.of(LegacyChatMessageType.class)
+      .asEnum()
+      .translationFrom(ChatMessageType.class);
+
+    assertTrue(translation.isComplete());
+    assertEquals(LegacyChatMessageType.CHAT, translation.translate(ChatMessageType.CHAT));
+    assertEquals(LegacyChatMessageType.SYSTEM, translation.translate(ChatMessageType.SYSTEM));
+    assertEquals(LegacyChatMessageType.GAME_INFO, translation.translate(ChatMessageType.ACTION_BAR));
+  }
+
+  @Test
+  public void fallsBackToOrdinalsForObfuscatedNames() throws Exception {
+    EnumTranslation<ChatMessageType> translation = ClassHandle.of(ObfuscatedChatMessageType.class)
+      .asEnum()
+      .translationFrom(ChatMessageType.class);
+
+    assertTrue(translation.isComplete());
+    assertEquals(ObfuscatedChatMessageType.c, translation.translate(ChatMessageType.ACTION_BAR));
+  }
+
+  @Test
+  public void keepsNameMatchesFromBeingClaimedTwice() throws Exception {
+    EnumTranslation<EnumGameMode> translation = ClassHandle.of(ModernGamemode.class)
+      .asEnum()
+      .translationFrom(EnumGameMode.class);
+
+    // NOT_SET's position is taken by SURVIVAL's name match
+    assertEquals(List.of(EnumGameMode.NOT_SET), translation.getUnmapped());
+    assertEquals(ModernGamemode.SURVIVAL, translation.translate(EnumGameMode.SURVIVAL));
+    assertEquals(ModernGamemode.SPECTATOR, translation.translate(EnumGameMode.SPECTATOR));
+    assertThrows(EnumConstantNotPresentException.class, () -> translation.translate(EnumGameMode.NOT_SET));
+  }
+}
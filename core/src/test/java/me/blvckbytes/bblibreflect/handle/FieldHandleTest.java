@@ -0,0 +1,165 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that compiled field accesses read and write the fixtures' fields,
+  reject primitive accesses which don't match the field's type and copy
+  records instead of modifying them, as well as binding accessors to
+  functional interfaces.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FieldHandleTest {
+
+  public static class Counters {
+    private long total;
+    private static int instances;
+  }
+
+  public record Title(String text, int stay) {}
+
+  public interface IStayReader {
+    long stay(FakeNms.ClientboundSetTitlesAnimationPacket packet);
+  }
+
+  private final ClassHandle C_TIMINGS = ClassHandle.of(FakeNms.ClientboundSetTitlesAnimationPacket.class);
+  private final ClassHandle C_CHAT = ClassHandle.of(FakeNms.PacketPlayInChat.class);
+  private final ClassHandle C_COUNTERS = ClassHandle.of(Counters.class);
+
+  @Test
+  public void accessesCompiled() throws Exception {
+    FieldHandle message = C_CHAT.locateField().withType(String.class).required();
+    FakeNms.PacketPlayInChat packet = new FakeNms.PacketPlayInChat();
+
+    message.set(packet, "hello");
+    assertEquals("hello", message.get(packet));
+  }
+
+  @Test
+  public void accessesPrimitives() throws Exception {
+    FieldHandle stay = C_TIMINGS.locateField().withType(int.class).withSkip(1).required();
+    FakeNms.ClientboundSetTitlesAnimationPacket packet = new FakeNms.ClientboundSetTitlesAnimationPacket(10, 70, 20);
+
+    assertEquals(70, stay.getInt(packet));
+
+    // Final instance fields are written to as well
+    stay.setInt(packet, 80);
+    assertEquals(80, stay.getInt(packet));
+
+    FieldHandle total = C_COUNTERS.locateField().withType(long.class).required();
+    Counters counters = new Counters();
+    total.setLong(counters, 1L << 40);
+    assertEquals(1L << 40, total.getLong(counters));
+
+    // Static fields ignore the passed instance
+    FieldHandle instances = C_COUNTERS.locateField().withType(int.class).withStatic(true).required();
+    instances.setInt(null, 3);
+    assertEquals(3, instances.getInt(counters));
+  }
+
+  @Test
+  public void rejectsMismatchingPrimitives() throws Exception {
+    FieldHandle stay = C_TIMINGS.locateField().withType(int.class).withSkip(1).required();
+    FakeNms.ClientboundSetTitlesAnimationPacket packet = new FakeNms.ClientboundSetTitlesAnimationPacket(10, 70, 20);
+
+    assertThrows(IllegalStateException.class, () -> stay.getLong(packet));
+    assertThrows(IllegalStateException.class, () -> stay.setLong(packet, 5));
+    assertThrows(IllegalStateException.class, () -> stay.getBoolean(packet));
+
+    // Reference fields have no primitive value at all
+    FieldHandle message = C_CHAT.locateField().withType(String.class).required();
+    assertThrows(IllegalStateException.class, () -> message.getInt(new FakeNms.PacketPlayInChat()));
+
+    // The field kept it's value
+    assertEquals(70, stay.getInt(packet));
+  }
+
+  @Test
+  public void copiesRecordsWith() throws Exception {
+    FieldHandle stay = ClassHandle.of(Title.class).locateField().withType(int.class).required();
+    Title title = new Title("Title", 70);
+
+    Object copy = stay.with(title, 80);
+
+    assertNotSame(title, copy);
+    assertEquals(new Title("Title", 80), copy);
+    assertEquals(70, title.stay());
+  }
+
+  @Test
+  public void modifiesMutablesWith() throws Exception {
+    FieldHandle message = C_CHAT.locateField().withType(String.class).required();
+    FakeNms.PacketPlayInChat packet = new FakeNms.PacketPlayInChat();
+
+    assertSame(packet, message.with(packet, "hello"));
+    assertEquals("hello", message.get(packet));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void bindsAccessors() throws Exception {
+    FieldHandle stay = C_TIMINGS.locateField().withType(int.class).withSkip(1).required();
+    FieldHandle message = C_CHAT.locateField().withType(String.class).required();
+
+    ToIntFunction<Object> getStay = stay.bindGetter(ToIntFunction.class);
+    ObjIntConsumer<Object> setStay = stay.bindSetter(ObjIntConsumer.class);
+    Function<Object, Object> getMessage = message.bindGetter(Function.class);
+    BiConsumer<Object, Object> setMessage = message.bindSetter(BiConsumer.class);
+
+    FakeNms.ClientboundSetTitlesAnimationPacket timings = new FakeNms.ClientboundSetTitlesAnimationPacket(10, 70, 20);
+    assertEquals(70, getStay.applyAsInt(timings));
+
+    setStay.accept(timings, 80);
+    assertEquals(80, stay.getInt(timings));
+
+    FakeNms.PacketPlayInChat chat = new FakeNms.PacketPlayInChat();
+    setMessage.accept(chat, "hello");
+    assertEquals("hello", getMessage.apply(chat));
+
+    // Typed instances and widened values
+    assertEquals(80L, stay.bindGetter(IStayReader.class).stay(timings));
+    ToLongFunction<Object> getWideStay = stay.bindGetter(ToLongFunction.class);
+    assertEquals(80L, getWideStay.applyAsLong(timings));
+  }
+
+  @Test
+  public void rejectsMismatchingBinds() throws Exception {
+    FieldHandle stay = C_TIMINGS.locateField().withType(int.class).withSkip(1).required();
+    FieldHandle text = ClassHandle.of(Title.class).locateField().withType(String.class).required();
+
+    // Wrong shapes
+    assertThrows(IllegalStateException.class, () -> stay.bindGetter(ObjIntConsumer.class));
+    assertThrows(IllegalStateException.class, () -> stay.bindSetter(ToIntFunction.class));
+    assertThrows(IllegalStateException.class, () -> stay.bindGetter(Runnable.class));
+
+    // Values which never convert
+    assertThrows(IllegalStateException.class, () -> text.bindGetter(ToIntFunction.class));
+
+    // Records cannot be written to
+    assertThrows(IllegalStateException.class, () -> text.bindSetter(BiConsumer.class));
+  }
+}
@@ -0,0 +1,78 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that field predicates match generic type parameters and skip
+  fields whose type parameters cannot be compared to classes.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class FieldPredicateBuilderTest {
+
+  @SuppressWarnings({ "rawtypes", "unused" })
+  public static class Generics {
+    private List raw;
+    private List<?> wildcard;
+    private List<List<String>> nested;
+    private Map<String, Integer> plain;
+  }
+
+  private final ClassHandle C_GENERICS = ClassHandle.of(Generics.class);
+
+  @Test
+  public void matchesFixtureGenerics() throws Exception {
+    ClassHandle C_PLAYER_INFO = ClassHandle.of(FakeNms.PacketPlayOutPlayerInfo.class);
+
+    FieldHandle entries = C_PLAYER_INFO.locateField()
+      .withType(List.class)
+      .withGeneric(FakeNms.PacketPlayOutPlayerInfo.PlayerInfoData.class)
+      .required();
+
+    assertTrue(entries.toString().endsWith(".entries"));
+  }
+
+  @Test
+  public void skipsRawTypes() {
+    assertNull(C_GENERICS.locateField().withName("raw").withGeneric(Object.class).optional());
+  }
+
+  @Test
+  public void skipsWildcardsAndNestedTypes() {
+    assertNull(C_GENERICS.locateField().withName("wildcard").withGeneric(Object.class).optional());
+    assertNull(C_GENERICS.locateField().withName("nested").withGeneric(List.class).optional());
+  }
+
+  @Test
+  public void searchesPastNonComparableFields() {
+    // Raw, wildcard and nested fields are declared before the matching one
+    FieldHandle plain = C_GENERICS.locateField()
+      .withType(Object.class, false, Assignability.TYPE_TO_TARGET)
+      .withGeneric(String.class)
+      .withGeneric(Integer.class)
+      .optional();
+
+    assertNotNull(plain);
+    assertTrue(plain.toString().endsWith(".plain"));
+  }
+}
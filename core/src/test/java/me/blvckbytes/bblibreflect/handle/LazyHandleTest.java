@@ -0,0 +1,137 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that lazy handles don't resolve before their first use and then call
+  their resolver exactly once, even when many threads race for the value.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class LazyHandleTest {
+
+  private final ClassHandle C_SET_SLOT = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+
+  @AfterEach
+  public void tearDown() {
+    ClassHandle.clearCaches();
+  }
+
+  @Test
+  public void resolvesOnFirstUseOnly() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+
+    LazyHandle<FieldHandle> handle = new LazyHandle<>(() -> {
+      calls.incrementAndGet();
+      return C_SET_SLOT.locateField().withType(FakeNms.ItemStack.class).required();
+    });
+
+    assertFalse(handle.isResolved());
+    assertEquals(0, calls.get());
+
+    FieldHandle field = handle.get();
+    assertNotNull(field);
+    assertTrue(handle.isResolved());
+
+    assertSame(field, handle.get());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void resolvesNullOnce() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+
+    LazyHandle<FieldHandle> handle = new LazyHandle<>(() -> {
+      calls.incrementAndGet();
+      return C_SET_SLOT.locateField().withType(long.class).optional();
+    });
+
+    assertNull(handle.get());
+    assertNull(handle.get());
+    assertTrue(handle.isResolved());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void retriesFailedResolutions() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+
+    LazyHandle<FieldHandle> handle = new LazyHandle<>(() -> {
+      calls.incrementAndGet();
+      return C_SET_SLOT.locateField().withType(long.class).required();
+    });
+
+    assertThrows(NoSuchFieldException.class, handle::get);
+    assertThrows(NoSuchFieldException.class, handle::get);
+    assertFalse(handle.isResolved());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void resolvesThroughBuilders() throws Exception {
+    LazyHandle<FieldHandle> handle = C_SET_SLOT.locateField().withType(FakeNms.ItemStack.class).lazy();
+    LazyHandle<FieldHandle> missing = C_SET_SLOT.locateField().withType(long.class).lazyOptional();
+
+    assertFalse(handle.isResolved());
+    assertSame(C_SET_SLOT.locateField().withType(FakeNms.ItemStack.class).required(), handle.get());
+    assertNull(missing.get());
+  }
+
+  @Test
+  public void resolvesOnceUnderContention() throws Exception {
+    int threads = 8;
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    LazyHandle<FieldHandle> handle = new LazyHandle<>(() -> {
+      calls.incrementAndGet();
+      return C_SET_SLOT.locateField().withType(int.class).withSkip(2).required();
+    });
+
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+    try {
+      List<Future<FieldHandle>> results = new ArrayList<>();
+
+      for (int i = 0; i < threads; i++) {
+        results.add(pool.submit(() -> {
+          start.await();
+          return handle.get();
+        }));
+      }
+
+      start.countDown();
+
+      FieldHandle first = results.get(0).get(5, TimeUnit.SECONDS);
+      for (Future<FieldHandle> result : results)
+        assertSame(first, result.get(5, TimeUnit.SECONDS));
+
+      assertEquals(1, calls.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
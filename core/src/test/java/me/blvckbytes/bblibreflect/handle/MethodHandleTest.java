@@ -0,0 +1,153 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import io.netty.channel.ChannelHandlerContext;
+import me.blvckbytes.bblibreflect.INetworkManagerReceiver;
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that compiled invocations report errors just like reflection does and
+  that bound functional interfaces call through to their method.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MethodHandleTest {
+
+  public static class Target {
+
+    public int twice(int value) {
+      return value * 2;
+    }
+
+    public String fail(String message) {
+      throw new IllegalStateException(message);
+    }
+
+    public static String describe(Object value) {
+      return "value=" + value;
+    }
+
+    protected int offset(int value, int by) {
+      return value + by;
+    }
+  }
+
+  public interface IOffsetter {
+    int offset(Object target, int value, int by);
+  }
+
+  private final ClassHandle C_TARGET = ClassHandle.of(Target.class);
+
+  @Test
+  public void invokesCompiled() throws Exception {
+    assertEquals(6, C_TARGET.locateMethod().withName("twice").required().invoke1(new Target(), 3));
+    assertEquals("value=null", C_TARGET.locateMethod().withName("describe").withStatic(true).required().invoke1(null, null));
+  }
+
+  @Test
+  public void wrapsTargetExceptions() throws Exception {
+    MethodHandle fail = C_TARGET.locateMethod().withName("fail").required();
+
+    InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> fail.invoke1(new Target(), "failed"));
+    assertTrue(e.getCause() instanceof IllegalStateException);
+    assertEquals("failed", e.getCause().getMessage());
+  }
+
+  @Test
+  public void rejectsMismatchingArguments() throws Exception {
+    MethodHandle twice = C_TARGET.locateMethod().withName("twice").required();
+
+    // Not castable, not unboxable
+    assertThrows(IllegalArgumentException.class, () -> twice.invoke1(new Target(), "3"));
+    assertThrows(IllegalArgumentException.class, () -> twice.invoke1(new Target(), null));
+
+    // Receiver of the wrong type
+    assertThrows(IllegalArgumentException.class, () -> twice.invoke1("receiver", 3));
+  }
+
+  @Test
+  public void rejectsNullReceivers() throws Exception {
+    MethodHandle twice = C_TARGET.locateMethod().withName("twice").required();
+    assertThrows(NullPointerException.class, () -> twice.invoke1(null, 3));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void bindsPublicMethods() throws Exception {
+    Function<Object, Object> describe = C_TARGET.locateMethod().withName("describe").withStatic(true).required().bind(Function.class);
+    assertEquals("value=5", describe.apply(5));
+
+    Function<Object, Object> twice = C_TARGET.locateMethod().withName("twice").required().bind(Function.class, new Target());
+    assertEquals(8, twice.apply(4));
+  }
+
+  @Test
+  public void bindsProtectedMethods() throws Exception {
+    IOffsetter offsetter = C_TARGET.locateMethod().withName("offset").required().bind(IOffsetter.class);
+    assertEquals(7, offsetter.offset(new Target(), 3, 4));
+
+    FakeNms.NetworkManager networkManager = new FakeNms.NetworkManager(null);
+    FakeNms.Packet packet = new FakeNms.PacketPlayInChat();
+
+    INetworkManagerReceiver receiver = ClassHandle.of(FakeNms.NetworkManager.class).locateMethod()
+      .withParameters(ChannelHandlerContext.class)
+      .withParameters(FakeNms.Packet.class)
+      .required()
+      .bind(INetworkManagerReceiver.class);
+
+    receiver.receivePacket(networkManager, null, packet);
+    assertEquals(1, networkManager.received.size());
+    assertSame(packet, networkManager.received.get(0));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void bindsWithoutWrappingExceptions() throws Exception {
+    Function<Object, Object> fail = C_TARGET.locateMethod().withName("fail").required().bind(Function.class, new Target());
+    assertEquals("failed", assertThrows(IllegalStateException.class, () -> fail.apply("failed")).getMessage());
+  }
+
+  @Test
+  public void rejectsMismatchingInterfaces() throws Exception {
+    MethodHandle twice = C_TARGET.locateMethod().withName("twice").required();
+    assertThrows(IllegalStateException.class, () -> twice.bind(IOffsetter.class));
+    assertThrows(IllegalStateException.class, () -> twice.bind(Runnable.class, new Target()));
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = HandleProfiler.ENABLED_PROPERTY, matches = "true")
+  public void profilesBoundCalls() throws Exception {
+    HandleProfiler.reset();
+    IOffsetter offsetter = C_TARGET.locateMethod().withName("offset").required().bind(IOffsetter.class);
+
+    for (int i = 0; i < 10; i++)
+      offsetter.offset(new Target(), i, 1);
+
+    assertTrue(HandleProfiler.getProbes().stream().anyMatch(
+      probe -> probe.getMember().contains("Target.offset") && probe.getInvocations() == 10
+    ));
+
+    HandleProfiler.clear();
+    assertTrue(HandleProfiler.getProbes().isEmpty());
+  }
+}
@@ -0,0 +1,78 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that method predicates match generic return type parameters and
+  skip methods whose type parameters cannot be compared to classes.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class MethodPredicateBuilderTest {
+
+  @SuppressWarnings("rawtypes")
+  public static class Generics {
+    public List raw() { return null; }
+    public List<?> wildcard() { return null; }
+    public List<List<String>> nested() { return null; }
+    public Map<String, Integer> plain() { return null; }
+  }
+
+  private final ClassHandle C_GENERICS = ClassHandle.of(Generics.class);
+
+  @Test
+  public void matchesFixtureGenerics() throws Exception {
+    MethodHandle fuels = ClassHandle.of(FakeNms.TileEntityFurnace.class).locateMethod()
+      .withReturnType(Map.class)
+      .withReturnGeneric(FakeNms.Item.class)
+      .withReturnGeneric(Integer.class)
+      .withStatic(true)
+      .required();
+
+    assertTrue(fuels.toString().endsWith(".fuels()"));
+  }
+
+  @Test
+  public void skipsRawTypes() {
+    assertNull(C_GENERICS.locateMethod().withName("raw").withReturnGeneric(Object.class).optional());
+  }
+
+  @Test
+  public void skipsWildcardsAndNestedTypes() {
+    assertNull(C_GENERICS.locateMethod().withName("wildcard").withReturnGeneric(Object.class).optional());
+    assertNull(C_GENERICS.locateMethod().withName("nested").withReturnGeneric(List.class).optional());
+  }
+
+  @Test
+  public void searchesPastNonComparableMethods() {
+    // Raw, wildcard and nested methods are declared before the matching one
+    MethodHandle plain = C_GENERICS.locateMethod()
+      .withReturnType(Object.class, false, Assignability.TYPE_TO_TARGET)
+      .withReturnGeneric(String.class)
+      .withReturnGeneric(Integer.class)
+      .optional();
+
+    assertNotNull(plain);
+    assertTrue(plain.toString().endsWith(".plain()"));
+  }
+}
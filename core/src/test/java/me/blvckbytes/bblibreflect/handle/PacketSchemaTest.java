@@ -0,0 +1,145 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that schemas list fields in predicate order, inherited ones after the
+  own ones, and that lookups by index, name and type find the same entries,
+  with shadowed fields only being reachable by index or type.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class PacketSchemaTest {
+
+  // Shadows the entity id of it's superclass with a wider type
+  public static class PacketPlayOutWideEntity extends FakeNms.PacketPlayOutEntity {
+    private long entityId;
+
+    private int getShadowedId() {
+      return super.entityId;
+    }
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ClassHandle.clearCaches();
+  }
+
+  @Test
+  public void looksUpByIndex() {
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayOutSetSlot.class);
+
+    assertEquals(4, schema.getFields().size());
+    assertEquals("containerId", schema.getField(0).getName());
+    assertEquals("itemStack", schema.getField(3).getName());
+    assertEquals(3, schema.getField(3).getIndex());
+
+    assertNull(schema.getField(-1));
+    assertNull(schema.getField(4));
+  }
+
+  @Test
+  public void looksUpByName() {
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayOutSetSlot.class);
+
+    PacketSchema.Entry slot = schema.getField("slot");
+    assertNotNull(slot);
+    assertEquals(2, slot.getIndex());
+    assertSame(int.class, slot.getType());
+
+    assertNull(schema.getField("windowId"));
+  }
+
+  @Test
+  public void looksUpByType() {
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayOutSetSlot.class);
+
+    assertEquals(3, schema.getFieldsOfType(int.class).size());
+    assertSame(schema.getField("stateId"), schema.getField(int.class, 1));
+    assertSame(schema.getField("itemStack"), schema.getField(FakeNms.ItemStack.class, 0));
+
+    assertNull(schema.getField(int.class, 3));
+    assertTrue(schema.getFieldsOfType(long.class).isEmpty());
+  }
+
+  @Test
+  public void includesInheritedFields() {
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayOutEntity.PacketPlayOutRelEntityMove.class);
+
+    assertEquals(5, schema.getFields().size());
+    assertEquals("entityId", schema.getField(0).getName());
+    assertEquals(3, schema.getFieldsOfType(short.class).size());
+    assertEquals("onGround", schema.getField(boolean.class, 0).getName());
+  }
+
+  @Test
+  public void resolvesShadowedFieldsByIndexAndType() {
+    PacketSchema schema = PacketSchema.of(PacketPlayOutWideEntity.class);
+
+    // The own field comes first and wins the name
+    PacketSchema.Entry own = schema.getField("entityId");
+    assertNotNull(own);
+    assertEquals(0, own.getIndex());
+    assertSame(long.class, own.getType());
+
+    // The superclass's field is still there, just not by name
+    PacketSchema.Entry shadowed = schema.getField(int.class, 0);
+    assertNotNull(shadowed);
+    assertEquals("entityId", shadowed.getName());
+    assertSame(shadowed, schema.getField(1));
+    assertEquals(6, schema.getFields().size());
+  }
+
+  @Test
+  public void accessesValuesThroughEntries() throws Exception {
+    PacketSchema schema = PacketSchema.of(PacketPlayOutWideEntity.class);
+    PacketPlayOutWideEntity packet = new PacketPlayOutWideEntity();
+
+    schema.getField(0).getHandle().setLong(packet, 5L);
+    schema.getField(1).getHandle().setInt(packet, 7);
+
+    assertEquals(5L, packet.entityId);
+    assertEquals(7, packet.getShadowedId());
+  }
+
+  @Test
+  public void describesGenerics() {
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayOutPlayerInfo.class);
+
+    assertEquals(
+      List.of(FakeNms.PacketPlayOutPlayerInfo.PlayerInfoData.class),
+      schema.getField("entries").getGenerics()
+    );
+    assertTrue(schema.getField("action").getGenerics().isEmpty());
+  }
+
+  @Test
+  public void buildsOncePerClass() {
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayOutSetSlot.class);
+
+    assertSame(schema, PacketSchema.of(ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class)));
+
+    PacketSchema.clearCaches();
+    assertNotSame(schema, PacketSchema.of(FakeNms.PacketPlayOutSetSlot.class));
+  }
+}
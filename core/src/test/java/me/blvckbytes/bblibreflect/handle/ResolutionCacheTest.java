@@ -0,0 +1,145 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that resolved members are persisted for the same key only and
+  that predicates record what they resolved to in the active cache.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ResolutionCacheTest {
+
+  private static final List<Object> SIGNATURE = List.of("signature", 1);
+
+  @TempDir
+  File directory;
+
+  private final ClassHandle C_SET_SLOT = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+
+  @AfterEach
+  public void tearDown() {
+    ResolutionCache.setActive(null);
+    ClassHandle.clearCaches();
+  }
+
+  @Test
+  public void persistsEntriesForTheSameKey() throws Exception {
+    File file = new File(directory, "cache.properties");
+
+    ResolutionCache cache = new ResolutionCache(file, "key");
+    cache.put(C_SET_SLOT, SIGNATURE, "member");
+    cache.save();
+
+    // Swapped in, nothing left behind
+    assertTrue(file.isFile());
+    assertArrayEquals(new String[] { "cache.properties" }, directory.list());
+
+    assertEquals("member", new ResolutionCache(file, "key").get(C_SET_SLOT, SIGNATURE));
+    assertNull(new ResolutionCache(file, "other").get(C_SET_SLOT, SIGNATURE));
+  }
+
+  @Test
+  public void replacesPreviousSaves() throws Exception {
+    File file = new File(directory, "nested/cache.properties");
+
+    ResolutionCache cache = new ResolutionCache(file, "key");
+    cache.put(C_SET_SLOT, SIGNATURE, "first");
+    cache.save();
+
+    cache.put(C_SET_SLOT, SIGNATURE, "second");
+    cache.save();
+
+    assertEquals("second", new ResolutionCache(file, "key").get(C_SET_SLOT, SIGNATURE));
+    assertFalse(new File(file.getPath() + ".tmp").exists());
+  }
+
+  @Test
+  public void skipsUnchangedSaves() throws Exception {
+    File file = new File(directory, "cache.properties");
+
+    new ResolutionCache(file, "key").save();
+
+    // Loaded from disk and not changed since
+    ResolutionCache cache = new ResolutionCache(file, "key");
+    assertTrue(file.delete());
+
+    cache.save();
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void recordsResolvedMembers() throws Exception {
+    File file = new File(directory, "cache.properties");
+    ResolutionCache cache = new ResolutionCache(file, "key");
+    ResolutionCache.setActive(cache);
+
+    C_SET_SLOT.locateField().withType(int.class).withSkip(1).required();
+    cache.save();
+
+    Properties properties = new Properties();
+    try (InputStream input = new FileInputStream(file)) {
+      properties.load(input);
+    }
+
+    assertEquals("key", properties.getProperty("@key"));
+    assertTrue(properties.containsValue(FakeNms.PacketPlayOutSetSlot.class.getName() + "#stateId"));
+  }
+
+  @Test
+  public void resolvesBatchesLikeSingleLookups() throws Exception {
+    File file = new File(directory, "cache.properties");
+    ResolutionCache cache = new ResolutionCache(file, "key");
+    ResolutionCache.setActive(cache);
+
+    // Memoized ahead of the batch
+    FieldHandle containerId = C_SET_SLOT.locateField().withType(int.class).required();
+
+    @Nullable FieldHandle[] fields = C_SET_SLOT.locateMany(
+      C_SET_SLOT.locateField().withType(int.class),
+      C_SET_SLOT.locateField().withType(int.class).withSkip(2),
+      C_SET_SLOT.locateField().withType(int.class).withSkip(3).withOptional(true)
+    );
+
+    assertSame(containerId, fields[0]);
+    assertNull(fields[2]);
+
+    // The batch's searches are memoized and cached as well
+    assertSame(fields[1], C_SET_SLOT.locateField().withType(int.class).withSkip(2).required());
+    assertEquals(
+      FakeNms.PacketPlayOutSetSlot.class.getName() + "#slot",
+      cache.get(C_SET_SLOT, C_SET_SLOT.locateField().withType(int.class).withSkip(2).getSignature())
+    );
+
+    // Only optional builders may be missing
+    assertThrows(NoSuchFieldException.class, () -> C_SET_SLOT.locateMany(
+      C_SET_SLOT.locateField().withType(int.class).withSkip(3)
+    ));
+  }
+}
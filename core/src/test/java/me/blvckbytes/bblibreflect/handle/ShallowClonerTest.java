@@ -0,0 +1,102 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that shallow copies carry all fields, inherited ones included, without
+  being tied to their source, that records are shared instead of copied and that
+  classes which cannot be copied keep failing without being inspected again.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class ShallowClonerTest {
+
+  public record Title(String text, int stay) {}
+
+  private final ClassHandle C_SET_SLOT = ClassHandle.of(FakeNms.PacketPlayOutSetSlot.class);
+  private final ClassHandle C_REL_ENTITY_MOVE = ClassHandle.of(FakeNms.PacketPlayOutEntity.PacketPlayOutRelEntityMove.class);
+
+  @AfterEach
+  public void tearDown() {
+    ClassHandle.clearCaches();
+  }
+
+  @Test
+  public void copiesIndependently() throws Exception {
+    FieldHandle slot = C_SET_SLOT.locateField().withType(int.class).withSkip(2).required();
+    FieldHandle item = C_SET_SLOT.locateField().withType(FakeNms.ItemStack.class).required();
+
+    FakeNms.PacketPlayOutSetSlot packet = new FakeNms.PacketPlayOutSetSlot();
+    FakeNms.ItemStack stack = new FakeNms.ItemStack(new FakeNms.Item(Material.STONE), 1);
+    slot.setInt(packet, 5);
+    item.set(packet, stack);
+
+    Object copy = ShallowCloner.copyOf(packet);
+
+    assertNotSame(packet, copy);
+    assertEquals(5, slot.getInt(copy));
+
+    // Shallow, the values themselves are shared
+    assertSame(stack, item.get(copy));
+
+    // Changing the copy leaves the source untouched
+    slot.setInt(copy, 7);
+    assertEquals(5, slot.getInt(packet));
+  }
+
+  @Test
+  public void copiesInheritedFields() throws Exception {
+    FieldHandle onGround = C_REL_ENTITY_MOVE.locateField().withType(boolean.class).withAllowSuperclass(true).required();
+
+    FakeNms.PacketPlayOutEntity.PacketPlayOutRelEntityMove packet = new FakeNms.PacketPlayOutEntity.PacketPlayOutRelEntityMove();
+    onGround.setBoolean(packet, true);
+
+    Object copy = ShallowCloner.copyOf(packet);
+
+    assertSame(packet.getClass(), copy.getClass());
+    assertTrue(onGround.getBoolean(copy));
+  }
+
+  @Test
+  public void passesRecordsThrough() {
+    Title title = new Title("Title", 70);
+    assertSame(title, ShallowCloner.copyOf(title));
+  }
+
+  @Test
+  public void rejectsOtherTypes() {
+    ShallowCloner cloner = ShallowCloner.of(FakeNms.PacketPlayOutSetSlot.class);
+    assertThrows(IllegalStateException.class, () -> cloner.copy(new FakeNms.PacketPlayInChat()));
+  }
+
+  @Test
+  public void keepsFailedCloners() {
+    // The JDK doesn't open it's internals, so copiers cannot be compiled
+    ShallowCloner cloner = ShallowCloner.of(ArrayList.class);
+
+    assertSame(cloner, ShallowCloner.of(ArrayList.class));
+    assertThrows(IllegalStateException.class, () -> cloner.copy(new ArrayList<>()));
+    assertThrows(IllegalStateException.class, () -> ShallowCloner.copyOf(new ArrayList<>()));
+  }
+}
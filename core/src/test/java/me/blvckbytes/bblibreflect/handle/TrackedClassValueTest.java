@@ -0,0 +1,77 @@
+package me.blvckbytes.bblibreflect.handle;
+
+import me.blvckbytes.bblibreflect.fixtures.FakeNms;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 08/21/2022
+
+  Checks that tracked class values compute once per class and forget all of
+  their values when cleared.
+
+  This program is free software: you can redistribute it and/or modify
+  it under the terms of the GNU Affero General Public License as published
+  by the Free Software Foundation, either version 3 of the License, or
+  (at your option) any later version.
+
+  This program is distributed in the hope that it will be useful,
+  but WITHOUT ANY WARRANTY; without even the implied warranty of
+  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+  GNU Affero General Public License for more details.
+
+  You should have received a copy of the GNU Affero General Public License
+  along with this program.  If not, see <https://www.gnu.org/licenses/>.
+*/
+public class TrackedClassValueTest {
+
+  @Test
+  public void computesOncePerClass() {
+    AtomicInteger computations = new AtomicInteger();
+    TrackedClassValue<String> names = new TrackedClassValue<>(type -> {
+      computations.incrementAndGet();
+      return type.getSimpleName();
+    });
+
+    assertEquals("String", names.get(String.class));
+    assertEquals("String", names.get(String.class));
+    assertEquals("Integer", names.get(Integer.class));
+    assertEquals(2, computations.get());
+  }
+
+  @Test
+  public void recomputesAfterClearing() {
+    TrackedClassValue<Object> values = new TrackedClassValue<>(type -> new Object());
+
+    Object first = values.get(String.class);
+    Object other = values.get(Integer.class);
+
+    values.clear();
+
+    assertNotSame(first, values.get(String.class));
+    assertNotSame(other, values.get(Integer.class));
+
+    // Values computed after clearing are tracked as well
+    Object second = values.get(String.class);
+    values.clear();
+    assertNotSame(second, values.get(String.class));
+  }
+
+  @Test
+  public void clearsAllHandleCaches() {
+    ClassHandle handle = ClassHandle.of(FakeNms.PacketPlayInChat.class);
+    PacketSchema schema = PacketSchema.of(FakeNms.PacketPlayInChat.class);
+
+    assertSame(handle, ClassHandle.of(FakeNms.PacketPlayInChat.class));
+    assertSame(schema, PacketSchema.of(FakeNms.PacketPlayInChat.class));
+
+    ClassHandle.clearCaches();
+
+    assertNotSame(handle, ClassHandle.of(FakeNms.PacketPlayInChat.class));
+    assertNotSame(schema, PacketSchema.of(FakeNms.PacketPlayInChat.class));
+  }
+}